@@ -1,5 +1,9 @@
 package com.aircraft;
 
+import com.aircraft.dao.WarmUp;
+import com.aircraft.db.DatabaseExecutor;
+import com.aircraft.db.SchemaMigrator;
+import com.aircraft.util.DBUtil;
 import com.aircraft.util.FXMLUtils;
 import javafx.application.Application;
 import javafx.scene.Scene;
@@ -7,6 +11,7 @@ import javafx.scene.image.Image;
 import javafx.stage.Stage;
 
 import java.io.IOException;
+import java.sql.SQLException;
 import java.util.Objects;
 
 /**
@@ -15,6 +20,22 @@ import java.util.Objects;
  */
 public class Main extends Application {
 
+    /**
+     * Runs before the login screen is shown, off the JavaFX Application Thread.
+     * Brings the database schema to the current version and loads the schema metadata,
+     * so no screen ever has to create tables or query the metadata.
+     */
+    @Override
+    public void init() {
+        try {
+            SchemaMigrator.migrate();
+        } catch (SQLException e) {
+            // Not fatal here: screens report their own database errors
+            System.err.println("Error migrating database schema: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
     @Override
     public void start(Stage primaryStage) throws IOException {
         // Load the login screen with dimensions to accommodate the floating card design
@@ -50,6 +71,19 @@ public class Main extends Application {
 
         // Display the window
         primaryStage.show();
+
+        // Open connections and load the reference catalogs while the user logs in
+        WarmUp.start();
+    }
+
+    /**
+     * Called when the application exits.
+     * Stops the database executor and closes the pooled database connections.
+     */
+    @Override
+    public void stop() {
+        DatabaseExecutor.shutdown();
+        DBUtil.shutdown();
     }
 
     /**
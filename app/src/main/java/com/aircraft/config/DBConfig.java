@@ -0,0 +1,96 @@
+package com.aircraft.config;
+
+/**
+ * Configuration class for database connection parameters.
+ */
+public class DBConfig {
+    // JDBC URL for MySQL database connection
+    // useServerPrepStmts makes MySQL parse each cached prepared statement only once per connection;
+    // rewriteBatchedStatements sends a batch of INSERTs as one multi-row INSERT
+    public static final String JDBC_URL = "jdbc:mysql://localhost:3306/manutenzione_am?useSSL=false&serverTimezone=UTC"
+            + "&useServerPrepStmts=true&rewriteBatchedStatements=true";
+
+    // Database username - replace with your MySQL username if not root
+    public static final String USERNAME = "root";
+
+    // Database password - replace with your MySQL password
+    public static final String PASSWORD = "100K";
+
+    // JDBC driver class name
+    public static final String DRIVER_CLASS = "com.mysql.cj.jdbc.Driver";
+
+    // Maximum number of physical connections the pool will open
+    public static final int POOL_MAX_SIZE = 10;
+
+    // Number of idle connections the pool tries to keep open
+    public static final int POOL_MIN_IDLE = 2;
+
+    // How long a caller waits for a free connection before giving up
+    public static final long POOL_CONNECTION_TIMEOUT_MS = 10_000;
+
+    // Idle connections above POOL_MIN_IDLE are closed after this long
+    public static final long POOL_IDLE_TIMEOUT_MS = 5 * 60_000;
+
+    // Physical connections are retired after this long, below MySQL's wait_timeout
+    public static final long POOL_MAX_LIFETIME_MS = 30 * 60_000;
+
+    // Connections idle for longer than this are validated before being handed out
+    public static final long POOL_VALIDATION_IDLE_MS = 500;
+
+    // Timeout for the validation round-trip (Connection.isValid)
+    public static final int POOL_VALIDATION_TIMEOUT_SECONDS = 2;
+
+    // A connection borrowed for longer than this is reported as a possible leak (0 disables)
+    public static final long POOL_LEAK_DETECTION_THRESHOLD_MS = 60_000;
+
+    // Number of prepared statements cached per pooled connection
+    public static final int STATEMENT_CACHE_SIZE = 64;
+
+    // Record per-statement latency, row counts and slow queries (see QueryStatistics)
+    public static final boolean QUERY_INSTRUMENTATION_ENABLED = true;
+
+    // Fetch size that makes Connector/J stream rows one at a time instead of buffering the result (see StreamingQuery)
+    public static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    // Maximum number of values bound into one IN (...) list; larger sets are queried in chunks
+    public static final int IN_LIST_CHUNK_SIZE = 500;
+
+    // Number of rows written per batch and per transaction by the bulk insert methods
+    public static final int INSERT_BATCH_SIZE = 500;
+
+    // Cached reference catalogs are reloaded after this long, to pick up changes saved on other workstations
+    public static final long REFERENCE_DATA_TTL_MS = 10 * 60_000;
+
+    // Executions slower than this are kept in the slow query log (see DatabaseMonitor)
+    public static final long SLOW_QUERY_THRESHOLD_MS = 250;
+
+    // Keep the literal SQL and every bind value in the slow query log; by default text values are masked.
+    // Only enable this on a development database: values can include passwords and personal data
+    public static final boolean SLOW_QUERY_CAPTURE_PARAMETERS = false;
+
+    // Number of slow executions kept in memory
+    public static final int SLOW_QUERY_LOG_SIZE = 200;
+
+    // JDBC URL of a read replica for reporting queries; leave empty to send all reads to the primary
+    public static final String REPLICA_JDBC_URL = "";
+
+    // Replica credentials, usually a read-only account
+    public static final String REPLICA_USERNAME = USERNAME;
+    public static final String REPLICA_PASSWORD = PASSWORD;
+
+    // Maximum number of physical connections to the replica
+    public static final int REPLICA_POOL_MAX_SIZE = 5;
+
+    // Reads fall back to the primary when the replica is further behind than this,
+    // and for this long after this workstation writes, so users always see their own changes
+    public static final int REPLICA_MAX_LAG_SECONDS = 5;
+
+    // How often the replication lag is measured
+    public static final long REPLICA_LAG_CHECK_INTERVAL_MS = 5_000;
+
+    // Threads running background database work; more would only wait for a pooled connection
+    public static final int EXECUTOR_THREADS = POOL_MAX_SIZE;
+
+    // Background database tasks allowed to wait for a thread; further requests are rejected
+    public static final int EXECUTOR_QUEUE_CAPACITY = 50;
+}
@@ -1,6 +1,9 @@
 package com.aircraft.controller;
 
 import com.aircraft.dao.AircraftDAO;
+import com.aircraft.dao.AsyncDAO;
+import com.aircraft.dao.ReferenceDataCache;
+import com.aircraft.dao.UpsertResult;
 import com.aircraft.model.Aircraft;
 import com.aircraft.util.AlertUtils;
 import javafx.collections.FXCollections;
@@ -12,7 +15,6 @@ import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.scene.layout.HBox;
 import javafx.stage.Window;
 
-import java.util.List;
 
 /**
  * Controller for the Aircraft Data management screen.
@@ -119,14 +121,16 @@ public class AircraftDataController {
 
         if (confirmed) {
             // Delete aircraft
-            boolean success = aircraftDAO.delete(aircraft.getMatricolaVelivolo());
-
-            if (success) {
-                AlertUtils.showInformation(owner, "Success", "Aircraft deleted successfully");
-                refreshAircraftTable();
-            } else {
-                AlertUtils.showError(owner, "Error", "Failed to delete aircraft");
-            }
+            AsyncDAO.supply(() -> aircraftDAO.delete(aircraft.getMatricolaVelivolo()))
+                    .exceptionally(error -> false)
+                    .thenAccept(success -> {
+                        if (success) {
+                            AlertUtils.showInformation(owner, "Success", "Aircraft deleted successfully");
+                            refreshAircraftTable();
+                        } else {
+                            AlertUtils.showError(owner, "Error", "Failed to delete aircraft");
+                        }
+                    });
         }
     }
 
@@ -134,10 +138,11 @@ public class AircraftDataController {
      * Refreshes the aircraft table with data from the database.
      */
     private void refreshAircraftTable() {
-        List<Aircraft> aircraft = aircraftDAO.getAll();
-        aircraftList.clear();
-        aircraftList.addAll(aircraft);
-        aircraftTable.setItems(aircraftList);
+        AsyncDAO.latest("AircraftDataController.aircraftTable", ReferenceDataCache::getAircraft).thenAccept(aircraft -> {
+            aircraftList.clear();
+            aircraftList.addAll(aircraft);
+            aircraftTable.setItems(aircraftList);
+        });
     }
 
     /**
@@ -168,28 +173,25 @@ public class AircraftDataController {
 
         aircraft.setMatricolaVelivolo(matricolaVelivoloField.getText());
 
-        // Save aircraft
-        boolean success;
-        if (selectedAircraft == null) {
-            // Check if aircraft already exists
-            if (aircraftDAO.exists(aircraft.getMatricolaVelivolo())) {
-                AlertUtils.showError(owner, "Validation Error", "Aircraft with this Matricola already exists");
-                return;
-            }
-
-            success = aircraftDAO.insert(aircraft);
-        } else {
-            success = aircraftDAO.update(aircraft);
-        }
-
-        if (success) {
-            AlertUtils.showInformation(owner, "Success", "Aircraft saved successfully");
-            clearForm();
-            selectedAircraft = null;
-            refreshAircraftTable();
-        } else {
-            AlertUtils.showError(owner, "Error", "Failed to save aircraft");
-        }
+        // Save aircraft; a new one is inserted unless it already exists, in one statement
+        boolean isNew = selectedAircraft == null;
+        saveButton.setDisable(true);
+        AsyncDAO.supply(() -> isNew ? aircraftDAO.upsert(aircraft)
+                        : aircraftDAO.update(aircraft) ? UpsertResult.UPDATED : UpsertResult.FAILED)
+                .exceptionally(error -> UpsertResult.FAILED)
+                .thenAccept(result -> {
+                    saveButton.setDisable(false);
+                    if (result == UpsertResult.EXISTING) {
+                        AlertUtils.showError(owner, "Validation Error", "Aircraft with this Matricola already exists");
+                    } else if (result.isSuccess()) {
+                        AlertUtils.showInformation(owner, "Success", "Aircraft saved successfully");
+                        clearForm();
+                        selectedAircraft = null;
+                        refreshAircraftTable();
+                    } else {
+                        AlertUtils.showError(owner, "Error", "Failed to save aircraft");
+                    }
+                });
     }
 
     /**
@@ -1,5 +1,6 @@
 package com.aircraft.controller;
 
+import com.aircraft.dao.AsyncDAO;
 import com.aircraft.dao.LauncherDAO;
 import com.aircraft.model.Launcher;
 import com.aircraft.util.AlertUtils;
@@ -81,18 +82,21 @@ public class FatigueMonitoringController {
 
         // Search for launcher
         String partNumber = launcherSerialField.getText();
-        currentLauncher = launcherDAO.getByPartNumber(partNumber);
-
-        if (currentLauncher != null) {
-            // Launcher found, populate form fields with launcher data and simulated fatigue data
-            populateFormFields(currentLauncher);
-            updateUIState(true);
-        } else {
-            // Launcher not found
-            AlertUtils.showError(owner, "Search Error", "Launcher not found: " + partNumber);
-            clearForm();
-            updateUIState(false);
-        }
+        AsyncDAO.latest("FatigueMonitoringController.launcher", () -> launcherDAO.getByPartNumber(partNumber))
+                .thenAccept(launcher -> {
+                    currentLauncher = launcher;
+
+                    if (currentLauncher != null) {
+                        // Launcher found, populate form fields with launcher data and simulated fatigue data
+                        populateFormFields(currentLauncher);
+                        updateUIState(true);
+                    } else {
+                        // Launcher not found
+                        AlertUtils.showError(owner, "Search Error", "Launcher not found: " + partNumber);
+                        clearForm();
+                        updateUIState(false);
+                    }
+                });
     }
 
     /**
@@ -1,6 +1,9 @@
 package com.aircraft.controller;
 
+import com.aircraft.dao.AsyncDAO;
 import com.aircraft.dao.LauncherDAO;
+import com.aircraft.dao.ReferenceDataCache;
+import com.aircraft.dao.UpsertResult;
 import com.aircraft.model.Launcher;
 import com.aircraft.util.AlertUtils;
 import javafx.collections.FXCollections;
@@ -71,9 +74,11 @@ public class LauncherController {
      * Refreshes the launcher table with data from the database.
      */
     private void refreshLauncherTable() {
-        launcherList.clear();
-        launcherList.addAll(launcherDAO.getAll());
-        launcherTable.setItems(launcherList);
+        AsyncDAO.latest("LauncherController.launcherTable", ReferenceDataCache::getLaunchers).thenAccept(launchers -> {
+            launcherList.clear();
+            launcherList.addAll(launchers);
+            launcherTable.setItems(launcherList);
+        });
     }
 
     /**
@@ -116,22 +121,25 @@ public class LauncherController {
             return;
         }
 
-        // Save launcher
-        boolean success;
-        if (selectedLauncher == null) {
-            success = launcherDAO.insert(launcher);
-        } else {
-            success = launcherDAO.update(launcher);
-        }
-
-        if (success) {
-            AlertUtils.showInformation(owner, "Success", "Launcher saved successfully");
-            clearForm();
-            selectedLauncher = null;
-            refreshLauncherTable();
-        } else {
-            AlertUtils.showError(owner, "Error", "Failed to save launcher");
-        }
+        // Save launcher; a new launcher is only inserted if its Part Number is not taken yet, in one statement
+        boolean isNew = selectedLauncher == null;
+        saveButton.setDisable(true);
+        AsyncDAO.supply(() -> isNew ? launcherDAO.insertIfAbsent(launcher)
+                        : launcherDAO.update(launcher) ? UpsertResult.UPDATED : UpsertResult.FAILED)
+                .exceptionally(error -> UpsertResult.FAILED)
+                .thenAccept(result -> {
+                    saveButton.setDisable(false);
+                    if (result == UpsertResult.EXISTING) {
+                        AlertUtils.showError(owner, "Validation Error", "Launcher with this Part Number already exists");
+                    } else if (result.isSuccess()) {
+                        AlertUtils.showInformation(owner, "Success", "Launcher saved successfully");
+                        clearForm();
+                        selectedLauncher = null;
+                        refreshLauncherTable();
+                    } else {
+                        AlertUtils.showError(owner, "Error", "Failed to save launcher");
+                    }
+                });
     }
 
     /**
@@ -188,14 +196,16 @@ public class LauncherController {
 
             if (confirmed) {
                 // Delete launcher
-                boolean success = launcherDAO.delete(launcher.getPartNumber());
-
-                if (success) {
-                    AlertUtils.showInformation(owner, "Success", "Launcher deleted successfully");
-                    refreshLauncherTable();
-                } else {
-                    AlertUtils.showError(owner, "Error", "Failed to delete launcher");
-                }
+                AsyncDAO.supply(() -> launcherDAO.delete(launcher.getPartNumber()))
+                        .exceptionally(error -> false)
+                        .thenAccept(success -> {
+                            if (success) {
+                                AlertUtils.showInformation(owner, "Success", "Launcher deleted successfully");
+                                refreshLauncherTable();
+                            } else {
+                                AlertUtils.showError(owner, "Error", "Failed to delete launcher");
+                            }
+                        });
             }
         }
     }
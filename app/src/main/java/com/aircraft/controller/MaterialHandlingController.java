@@ -1,5 +1,8 @@
 package com.aircraft.controller;
 
+import com.aircraft.dao.AsyncDAO;
+import com.aircraft.dao.ReferenceDataCache;
+import com.aircraft.dao.UpsertResult;
 import com.aircraft.dao.WeaponDAO;
 import com.aircraft.model.Weapon;
 import com.aircraft.util.AlertUtils;
@@ -13,7 +16,6 @@ import javafx.scene.layout.HBox;
 import javafx.stage.Window;
 
 import java.math.BigDecimal;
-import java.util.List;
 
 /**
  * Controller for the Material Handling screen.
@@ -144,14 +146,16 @@ public class MaterialHandlingController {
 
         if (confirmed) {
             // Delete weapon
-            boolean success = weaponDAO.delete(weapon.getPartNumber());
-
-            if (success) {
-                AlertUtils.showInformation(owner, "Success", "Weapon deleted successfully");
-                refreshWeaponTable();
-            } else {
-                AlertUtils.showError(owner, "Error", "Failed to delete weapon");
-            }
+            AsyncDAO.supply(() -> weaponDAO.delete(weapon.getPartNumber()))
+                    .exceptionally(error -> false)
+                    .thenAccept(success -> {
+                        if (success) {
+                            AlertUtils.showInformation(owner, "Success", "Weapon deleted successfully");
+                            refreshWeaponTable();
+                        } else {
+                            AlertUtils.showError(owner, "Error", "Failed to delete weapon");
+                        }
+                    });
         }
     }
 
@@ -159,10 +163,11 @@ public class MaterialHandlingController {
      * Refreshes the weapon table with data from the database.
      */
     private void refreshWeaponTable() {
-        List<Weapon> weapons = weaponDAO.getAll();
-        weaponList.clear();
-        weaponList.addAll(weapons);
-        weaponTable.setItems(weaponList);
+        AsyncDAO.latest("MaterialHandlingController.weaponTable", ReferenceDataCache::getWeapons).thenAccept(weapons -> {
+            weaponList.clear();
+            weaponList.addAll(weapons);
+            weaponTable.setItems(weaponList);
+        });
     }
 
     /**
@@ -213,28 +218,25 @@ public class MaterialHandlingController {
             return;
         }
 
-        // Save weapon
-        boolean success;
-        if (selectedWeapon == null) {
-            // Check if weapon already exists
-            if (weaponDAO.existsByPartNumber(weapon.getPartNumber())) {
-                AlertUtils.showError(owner, "Validation Error", "Weapon with this Part Number already exists");
-                return;
-            }
-
-            success = weaponDAO.insert(weapon);
-        } else {
-            success = weaponDAO.update(weapon);
-        }
-
-        if (success) {
-            AlertUtils.showInformation(owner, "Success", "Weapon saved successfully");
-            clearForm();
-            selectedWeapon = null;
-            refreshWeaponTable();
-        } else {
-            AlertUtils.showError(owner, "Error", "Failed to save weapon");
-        }
+        // Save weapon; a new weapon is only inserted if its Part Number is not taken yet, in one statement
+        boolean isNew = selectedWeapon == null;
+        saveButton.setDisable(true);
+        AsyncDAO.supply(() -> isNew ? weaponDAO.insertIfAbsent(weapon)
+                        : weaponDAO.update(weapon) ? UpsertResult.UPDATED : UpsertResult.FAILED)
+                .exceptionally(error -> UpsertResult.FAILED)
+                .thenAccept(result -> {
+                    saveButton.setDisable(false);
+                    if (result == UpsertResult.EXISTING) {
+                        AlertUtils.showError(owner, "Validation Error", "Weapon with this Part Number already exists");
+                    } else if (result.isSuccess()) {
+                        AlertUtils.showInformation(owner, "Success", "Weapon saved successfully");
+                        clearForm();
+                        selectedWeapon = null;
+                        refreshWeaponTable();
+                    } else {
+                        AlertUtils.showError(owner, "Error", "Failed to save weapon");
+                    }
+                });
     }
 
     /**
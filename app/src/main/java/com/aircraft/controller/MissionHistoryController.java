@@ -1,7 +1,8 @@
 package com.aircraft.controller;
 
-import com.aircraft.dao.AircraftDAO;
+import com.aircraft.dao.AsyncDAO;
 import com.aircraft.dao.MissionDAO;
+import com.aircraft.dao.ReferenceDataCache;
 import com.aircraft.model.Aircraft;
 import com.aircraft.model.Mission;
 import com.aircraft.util.AlertUtils;
@@ -21,6 +22,7 @@ import java.sql.Date;
 import java.sql.Time;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Controller for the Mission History screen.
@@ -67,8 +69,10 @@ public class MissionHistoryController {
     @FXML
     private TableColumn<Mission, Void> detailsColumn;
 
+    // Refresh channel for the search results; only the newest search is shown
+    private static final String SEARCH_CHANNEL = "MissionHistoryController.search";
+
     private final MissionDAO missionDAO = new MissionDAO();
-    private final AircraftDAO aircraftDAO = new AircraftDAO();
     private ObservableList<Mission> missionList = FXCollections.observableArrayList();
     private ObservableList<Aircraft> aircraftList = FXCollections.observableArrayList();
 
@@ -106,7 +110,6 @@ public class MissionHistoryController {
      * Loads aircraft data for the combo box.
      */
     private void loadAircraftData() {
-        List<Aircraft> aircraft = aircraftDAO.getAll();
         aircraftList.clear();
 
         // Add an "All Aircraft" option
@@ -114,8 +117,8 @@ public class MissionHistoryController {
         allAircraft.setMatricolaVelivolo("All Aircraft");
         aircraftList.add(allAircraft);
 
-        // Add actual aircraft
-        aircraftList.addAll(aircraft);
+        // Add actual aircraft once they are loaded
+        AsyncDAO.supply("ReferenceDataCache.aircraft", ReferenceDataCache::getAircraft).thenAccept(aircraftList::addAll);
         aircraftComboBox.setItems(aircraftList);
 
         // Set default selection to "All Aircraft"
@@ -235,27 +238,30 @@ public class MissionHistoryController {
         Date sqlFromDate = Date.valueOf(fromDate);
         Date sqlToDate = Date.valueOf(toDate);
 
-        // Search for missions
-        List<Mission> missions;
+        // Search for missions in the background; a newer search replaces one still running
+        CompletableFuture<List<Mission>> search;
         if (selectedAircraft != null && !selectedAircraft.getMatricolaVelivolo().equals("All Aircraft")) {
             // Search by aircraft and date range
-            missions = missionDAO.getMissionsByAircraftAndDateRange(
-                    selectedAircraft.getMatricolaVelivolo(),
+            String matricolaVelivolo = selectedAircraft.getMatricolaVelivolo();
+            search = AsyncDAO.latest(SEARCH_CHANNEL, () -> missionDAO.getMissionsByAircraftAndDateRange(
+                    matricolaVelivolo,
                     sqlFromDate,
                     sqlToDate
-            );
+            ));
         } else {
             // Search by date range only
-            missions = missionDAO.getMissionsByDateRange(sqlFromDate, sqlToDate);
+            search = AsyncDAO.latest(SEARCH_CHANNEL, () -> missionDAO.getMissionsByDateRange(sqlFromDate, sqlToDate));
         }
 
-        // Update table
-        missionList.clear();
-        missionList.addAll(missions);
-        missionTable.setItems(missionList);
+        search.thenAccept(missions -> {
+            // Update table
+            missionList.clear();
+            missionList.addAll(missions);
+            missionTable.setItems(missionList);
 
-        // Enable/disable export button based on results
-        exportButton.setDisable(missions.isEmpty());
+            // Enable/disable export button based on results
+            exportButton.setDisable(missions.isEmpty());
+        });
     }
 
     /**
@@ -0,0 +1,562 @@
+package com.aircraft.controller;
+
+import com.aircraft.dao.AsyncDAO;
+import com.aircraft.dao.LoadoutDAO;
+import com.aircraft.dao.MissionDAO;
+import com.aircraft.dao.ReferenceDataCache;
+import com.aircraft.model.Aircraft;
+import com.aircraft.model.Loadout;
+import com.aircraft.model.Mission;
+import com.aircraft.util.AlertUtils;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.event.ActionEvent;
+import javafx.fxml.FXML;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.*;
+import javafx.scene.control.cell.PropertyValueFactory;
+import javafx.scene.layout.HBox;
+import javafx.stage.Modality;
+import javafx.stage.Stage;
+import javafx.stage.Window;
+
+import java.io.IOException;
+import java.sql.Date;
+import java.sql.Time;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Controller for the Mission Management screen.
+ * Handles creating, updating, and deleting mission data.
+ */
+public class MissionManagementController {
+
+    @FXML
+    private ComboBox<Aircraft> aircraftComboBox;
+
+    @FXML
+    private TextField flightNumberField;
+
+    @FXML
+    private DatePicker missionDatePicker;
+
+    @FXML
+    private TextField departureTimeField;
+
+    @FXML
+    private TextField arrivalTimeField;
+
+    @FXML
+    private Button saveButton;
+
+    @FXML
+    private TableView<Mission> missionTable;
+
+    @FXML
+    private TableColumn<Mission, Integer> idColumn;
+
+    @FXML
+    private TableColumn<Mission, String> aircraftColumn;
+
+    @FXML
+    private TableColumn<Mission, Integer> flightNumberColumn;
+
+    @FXML
+    private TableColumn<Mission, Date> missionDateColumn;
+
+    @FXML
+    private TableColumn<Mission, Time> departureTimeColumn;
+
+    @FXML
+    private TableColumn<Mission, Time> arrivalTimeColumn;
+
+    @FXML
+    private TableColumn<Mission, Void> actionsColumn;
+
+    private final MissionDAO missionDAO = new MissionDAO();
+    private final LoadoutDAO loadoutDAO = new LoadoutDAO();
+    private ObservableList<Mission> missionList = FXCollections.observableArrayList();
+    private ObservableList<Aircraft> aircraftList = FXCollections.observableArrayList();
+    private Mission selectedMission = null;
+
+    // Map to store selected weapons and their positions
+    private Map<String, Map<String, String>> selectedPositions = new HashMap<>();
+
+    private final DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HH:mm");
+
+    /**
+     * Initializes the controller after its root element has been processed.
+     * Sets up event handlers and initializes UI components.
+     */
+    @FXML
+    public void initialize() {
+        // Load aircraft data for the combo box
+        loadAircraftData();
+
+        // Set up table columns
+        idColumn.setCellValueFactory(new PropertyValueFactory<>("id"));
+        aircraftColumn.setCellValueFactory(new PropertyValueFactory<>("matricolaVelivolo"));
+        flightNumberColumn.setCellValueFactory(new PropertyValueFactory<>("numeroVolo"));
+        missionDateColumn.setCellValueFactory(new PropertyValueFactory<>("dataMissione"));
+        departureTimeColumn.setCellValueFactory(new PropertyValueFactory<>("oraPartenza"));
+        arrivalTimeColumn.setCellValueFactory(new PropertyValueFactory<>("oraArrivo"));
+
+        // Set up action column with Edit, Weapons, and Delete buttons
+        setupActionsColumn();
+
+        // Set default date to today
+        missionDatePicker.setValue(LocalDate.now());
+
+        // Load mission data
+        refreshMissionTable();
+    }
+
+    /**
+     * Loads aircraft data for the combo box.
+     */
+    private void loadAircraftData() {
+        AsyncDAO.supply("ReferenceDataCache.aircraft", ReferenceDataCache::getAircraft).thenAccept(aircraft -> {
+            aircraftList.clear();
+            aircraftList.addAll(aircraft);
+        });
+        aircraftComboBox.setItems(aircraftList);
+
+        // Set up cell factory to display aircraft matricola
+        aircraftComboBox.setCellFactory(param -> new ListCell<>() {
+            @Override
+            protected void updateItem(Aircraft item, boolean empty) {
+                super.updateItem(item, empty);
+                if (empty || item == null) {
+                    setText(null);
+                } else {
+                    setText(item.getMatricolaVelivolo());
+                }
+            }
+        });
+
+        // Set up button cell to display selected aircraft matricola
+        aircraftComboBox.setButtonCell(new ListCell<>() {
+            @Override
+            protected void updateItem(Aircraft item, boolean empty) {
+                super.updateItem(item, empty);
+                if (empty || item == null) {
+                    setText(null);
+                } else {
+                    setText(item.getMatricolaVelivolo());
+                }
+            }
+        });
+    }
+
+    /**
+     * Sets up the actions column with Edit, Weapons, and Delete buttons.
+     */
+    private void setupActionsColumn() {
+        actionsColumn.setCellFactory(param -> new TableCell<>() {
+            private final Button editButton = new Button("Edit");
+            private final Button weaponsButton = new Button("Weapons");
+            private final Button deleteButton = new Button("Delete");
+            private final HBox buttons = new HBox(5, editButton, weaponsButton, deleteButton);
+
+            {
+                // Set up button handlers
+                editButton.setOnAction(event -> {
+                    Mission mission = getTableView().getItems().get(getIndex());
+                    editMission(mission);
+                });
+
+                weaponsButton.setOnAction(event -> {
+                    Mission mission = getTableView().getItems().get(getIndex());
+                    openWeaponConfiguration(mission);
+                });
+
+                deleteButton.setOnAction(event -> {
+                    Mission mission = getTableView().getItems().get(getIndex());
+                    deleteMission(mission);
+                });
+            }
+
+            @Override
+            protected void updateItem(Void item, boolean empty) {
+                super.updateItem(item, empty);
+                if (empty) {
+                    setGraphic(null);
+                } else {
+                    setGraphic(buttons);
+                }
+            }
+        });
+    }
+
+    /**
+     * Opens the weapon configuration screen for a mission.
+     *
+     * @param mission The mission to configure weapons for
+     */
+    private void openWeaponConfiguration(Mission mission) {
+        // Read the existing configuration off the FX thread, then open the screen with it
+        AsyncDAO.latest("MissionManagementController.missionWeapons", () -> loadoutDAO.getByMissionId(mission.getId()))
+                .thenAccept(loadout -> showWeaponConfiguration(mission, loadout));
+    }
+
+    /**
+     * Shows the weapon configuration screen for a mission and saves the configuration when it closes.
+     *
+     * @param mission The mission to configure weapons for
+     * @param loadout The mission's stored hardpoint configuration
+     */
+    private void showWeaponConfiguration(Mission mission, Loadout loadout) {
+        // Load existing weapon configuration for the mission
+        loadMissionWeapons(loadout);
+
+        // After window is closed, save the weapon configuration if needed
+        if (editWeaponConfiguration("Weapon Configuration - Mission #" + mission.getId())) {
+            saveMissionWeapons(mission.getId());
+        }
+    }
+
+    /**
+     * Opens the weapon configuration screen on the selected positions and waits for it to close.
+     * The screen hands the edited positions back through {@link #updateSelectedPositions(Map)}.
+     *
+     * @param title The window title
+     * @return true if the screen was shown, false if it could not be opened
+     */
+    private boolean editWeaponConfiguration(String title) {
+        try {
+            // Load the weapon configuration screen
+            FXMLLoader loader = new FXMLLoader(getClass().getResource("/fxml/weapon_configuration.fxml"));
+            Parent root = loader.load();
+
+            // Get the controller and set up data
+            WeaponConfigurationController controller = loader.getController();
+            controller.setParentController(this);
+            controller.setSelectedPositions(selectedPositions);
+
+            // Open in a new modal window
+            Stage stage = new Stage();
+            stage.setTitle(title);
+            stage.setScene(new Scene(root));
+            stage.initModality(Modality.APPLICATION_MODAL);
+            stage.showAndWait();
+            return true;
+        } catch (IOException e) {
+            Window owner = missionTable.getScene().getWindow();
+            AlertUtils.showError(owner, "Navigation Error", "Failed to open weapon configuration: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Loads weapons configuration for a mission.
+     *
+     * @param loadout The mission's stored hardpoint configuration
+     */
+    private void loadMissionWeapons(Loadout loadout) {
+        // Clear existing data
+        selectedPositions.clear();
+
+        for (Map.Entry<String, Map<String, String>> entry : loadout.getPositions().entrySet()) {
+            selectedPositions.put(entry.getKey(), new HashMap<>(entry.getValue()));
+        }
+    }
+
+    /**
+     * Saves weapons configuration for a mission.
+     * Only the positions that changed are written; an unchanged configuration writes nothing.
+     *
+     * @param missionId The ID of the mission
+     */
+    private void saveMissionWeapons(int missionId) {
+        Window owner = missionTable.getScene().getWindow();
+
+        Map<String, Map<String, String>> positions = copySelectedPositions();
+        AsyncDAO.supply(() -> loadoutDAO.save(missionId, positions))
+                .exceptionally(error -> false)
+                .thenAccept(success -> {
+                    if (success) {
+                        AlertUtils.showInformation(owner, "Success", "Weapon configuration saved successfully");
+                    } else {
+                        AlertUtils.showError(owner, "Database Error", "Failed to save mission weapons");
+                    }
+                });
+    }
+
+    /**
+     * Copies the selected positions for a background save, as the form may clear or
+     * replace them while the save runs.
+     *
+     * @return A deep copy of the selected positions
+     */
+    private Map<String, Map<String, String>> copySelectedPositions() {
+        Map<String, Map<String, String>> positions = new HashMap<>();
+        for (Map.Entry<String, Map<String, String>> entry : selectedPositions.entrySet()) {
+            positions.put(entry.getKey(), new HashMap<>(entry.getValue()));
+        }
+        return positions;
+    }
+
+    /**
+     * Loads a mission for editing.
+     *
+     * @param mission The Mission object to edit
+     */
+    private void editMission(Mission mission) {
+        // Set selected mission
+        selectedMission = mission;
+
+        // Populate form fields
+        for (Aircraft aircraft : aircraftList) {
+            if (aircraft.getMatricolaVelivolo().equals(mission.getMatricolaVelivolo())) {
+                aircraftComboBox.setValue(aircraft);
+                break;
+            }
+        }
+
+        flightNumberField.setText(String.valueOf(mission.getNumeroVolo()));
+
+        if (mission.getDataMissione() != null) {
+            missionDatePicker.setValue(mission.getDataMissione().toLocalDate());
+        }
+
+        if (mission.getOraPartenza() != null) {
+            departureTimeField.setText(mission.getOraPartenza().toLocalTime().format(timeFormatter));
+        }
+
+        if (mission.getOraArrivo() != null) {
+            arrivalTimeField.setText(mission.getOraArrivo().toLocalTime().format(timeFormatter));
+        }
+    }
+
+    /**
+     * Deletes a mission after confirmation.
+     *
+     * @param mission The Mission object to delete
+     */
+    private void deleteMission(Mission mission) {
+        Window owner = missionTable.getScene().getWindow();
+
+        // Confirm deletion
+        boolean confirmed = AlertUtils.showConfirmation(
+                owner,
+                "Confirm Deletion",
+                "Are you sure you want to delete mission #" + mission.getId() + "?"
+        );
+
+        if (confirmed) {
+            // Delete mission
+            AsyncDAO.supply(() -> missionDAO.delete(mission.getId()))
+                    .exceptionally(error -> false)
+                    .thenAccept(success -> {
+                        if (success) {
+                            AlertUtils.showInformation(owner, "Success", "Mission deleted successfully");
+                            refreshMissionTable();
+                        } else {
+                            AlertUtils.showError(owner, "Error", "Failed to delete mission");
+                        }
+                    });
+        }
+    }
+
+    /**
+     * Refreshes the mission table with data from the database.
+     */
+    private void refreshMissionTable() {
+        AsyncDAO.latest("MissionManagementController.missionTable", missionDAO::getAll).thenAccept(missions -> {
+            missionList.clear();
+            missionList.addAll(missions);
+            missionTable.setItems(missionList);
+        });
+    }
+
+    /**
+     * Handles the "Save" button click.
+     * Validates and saves the mission data to the database.
+     *
+     * @param event The ActionEvent object
+     */
+    @FXML
+    protected void onSaveButtonClick(ActionEvent event) {
+        Window owner = saveButton.getScene().getWindow();
+
+        // Validate input fields
+        if (aircraftComboBox.getValue() == null) {
+            AlertUtils.showError(owner, "Validation Error", "Aircraft is required");
+            return;
+        }
+
+        if (flightNumberField.getText().isEmpty()) {
+            AlertUtils.showError(owner, "Validation Error", "Flight Number is required");
+            return;
+        }
+
+        if (missionDatePicker.getValue() == null) {
+            AlertUtils.showError(owner, "Validation Error", "Mission Date is required");
+            return;
+        }
+
+        if (departureTimeField.getText().isEmpty()) {
+            AlertUtils.showError(owner, "Validation Error", "Departure Time is required");
+            return;
+        }
+
+        if (arrivalTimeField.getText().isEmpty()) {
+            AlertUtils.showError(owner, "Validation Error", "Arrival Time is required");
+            return;
+        }
+
+        // Parse flight number
+        int flightNumber;
+        try {
+            flightNumber = Integer.parseInt(flightNumberField.getText());
+        } catch (NumberFormatException e) {
+            AlertUtils.showError(owner, "Validation Error", "Flight Number must be a valid number");
+            return;
+        }
+
+        // Parse times
+        LocalTime departureTime;
+        LocalTime arrivalTime;
+        try {
+            departureTime = LocalTime.parse(departureTimeField.getText(), timeFormatter);
+            arrivalTime = LocalTime.parse(arrivalTimeField.getText(), timeFormatter);
+        } catch (DateTimeParseException e) {
+            AlertUtils.showError(owner, "Validation Error", "Times must be in the format HH:MM");
+            return;
+        }
+
+        // Check if arrival time is after departure time
+        if (arrivalTime.isBefore(departureTime)) {
+            AlertUtils.showError(owner, "Validation Error", "Arrival Time must be after Departure Time");
+            return;
+        }
+
+        // Create or update mission object
+        Mission mission;
+        if (selectedMission == null) {
+            // Create new mission
+            mission = new Mission();
+        } else {
+            // Update existing mission
+            mission = selectedMission;
+        }
+
+        mission.setMatricolaVelivolo(aircraftComboBox.getValue().getMatricolaVelivolo());
+        mission.setNumeroVolo(flightNumber);
+        mission.setDataMissione(Date.valueOf(missionDatePicker.getValue()));
+        mission.setOraPartenza(Time.valueOf(departureTime.format(DateTimeFormatter.ofPattern("HH:mm:ss"))));
+        mission.setOraArrivo(Time.valueOf(arrivalTime.format(DateTimeFormatter.ofPattern("HH:mm:ss"))));
+
+        if (selectedMission == null) {
+            createMission(owner, mission);
+            return;
+        }
+
+        // Save the edited mission; its loadout is saved separately with "Weapons"
+        saveButton.setDisable(true);
+        AsyncDAO.supply(() -> missionDAO.update(mission))
+                .exceptionally(error -> false)
+                .thenAccept(success -> {
+                    saveButton.setDisable(false);
+                    if (success) {
+                        // Ask if user wants to configure weapons for this mission
+                        boolean configureWeapons = AlertUtils.showConfirmation(
+                                owner,
+                                "Configure Weapons",
+                                "Mission saved successfully. Do you want to configure weapons for this mission?"
+                        );
+
+                        if (configureWeapons) {
+                            // Open weapon configuration screen
+                            openWeaponConfiguration(mission);
+                        }
+
+                        clearForm();
+                        selectedMission = null;
+                        refreshMissionTable();
+                    } else {
+                        AlertUtils.showError(owner, "Error", "Failed to save mission");
+                    }
+                });
+    }
+
+    /**
+     * Creates a new mission together with its loadout in one transaction.
+     * The loadout is configured before the mission is saved, so a mission is never stored
+     * without the loadout the user chose; the ID comes from the insert.
+     *
+     * @param owner The window that owns the alerts
+     * @param mission The new mission
+     */
+    private void createMission(Window owner, Mission mission) {
+        // Start from an empty loadout: selectedPositions may still hold the last mission opened with "Weapons"
+        selectedPositions.clear();
+
+        boolean configureWeapons = AlertUtils.showConfirmation(
+                owner,
+                "Configure Weapons",
+                "Do you want to configure weapons for this mission before saving it?"
+        );
+
+        if (configureWeapons && !editWeaponConfiguration("Weapon Configuration - New Mission")) {
+            return;
+        }
+
+        Map<String, Map<String, String>> positions = copySelectedPositions();
+        saveButton.setDisable(true);
+        AsyncDAO.supply(() -> missionDAO.create(mission, positions) > 0)
+                .exceptionally(error -> false)
+                .thenAccept(success -> {
+                    saveButton.setDisable(false);
+                    if (success) {
+                        AlertUtils.showInformation(owner, "Success", "Mission saved successfully");
+                        clearForm();
+                        selectedMission = null;
+                        refreshMissionTable();
+                    } else {
+                        AlertUtils.showError(owner, "Error", "Failed to save mission");
+                    }
+                });
+    }
+
+    /**
+     * Handles the "Clear" button click.
+     * Clears the form fields.
+     *
+     * @param event The ActionEvent object
+     */
+    @FXML
+    protected void onClearButtonClick(ActionEvent event) {
+        clearForm();
+        selectedMission = null;
+    }
+
+    /**
+     * Clears all form fields.
+     */
+    private void clearForm() {
+        aircraftComboBox.setValue(null);
+        flightNumberField.clear();
+        missionDatePicker.setValue(LocalDate.now());
+        departureTimeField.clear();
+        arrivalTimeField.clear();
+        selectedPositions.clear();
+    }
+
+    /**
+     * Updates the selected positions map.
+     * Called from the WeaponConfigurationController.
+     *
+     * @param positions The map of selected positions
+     */
+    public void updateSelectedPositions(Map<String, Map<String, String>> positions) {
+        this.selectedPositions = new HashMap<>(positions);
+    }
+}
\ No newline at end of file
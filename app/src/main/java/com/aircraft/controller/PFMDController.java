@@ -1,13 +1,15 @@
 package com.aircraft.controller;
 
-import com.aircraft.dao.AircraftDAO;
+import com.aircraft.dao.AsyncDAO;
+import com.aircraft.dao.LoadoutDAO;
 import com.aircraft.dao.MissionDAO;
 import com.aircraft.dao.RecordedDataDAO;
+import com.aircraft.dao.ReferenceDataCache;
 import com.aircraft.model.Aircraft;
+import com.aircraft.model.Loadout;
 import com.aircraft.model.Mission;
 import com.aircraft.model.RecordedData;
 import com.aircraft.util.AlertUtils;
-import com.aircraft.util.DBUtil;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
@@ -19,13 +21,7 @@ import javafx.scene.layout.Pane;
 import javafx.stage.Window;
 
 import java.math.BigDecimal;
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
-import java.sql.SQLException;
-import java.sql.DatabaseMetaData;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -88,9 +84,9 @@ public class PFMDController {
     @FXML
     private Pane positionTIP2;
 
-    private final AircraftDAO aircraftDAO = new AircraftDAO();
     private final MissionDAO missionDAO = new MissionDAO();
     private final RecordedDataDAO recordedDataDAO = new RecordedDataDAO();
+    private final LoadoutDAO loadoutDAO = new LoadoutDAO();
 
     // Map to track missile positions and their status
     private final Map<String, Boolean> missileStatusMap = new HashMap<>();
@@ -147,14 +143,15 @@ public class PFMDController {
      * Loads aircraft data into the aircraft combo box.
      */
     private void loadAircraftData() {
-        List<Aircraft> aircraftList = aircraftDAO.getAll();
-        ObservableList<String> aircraftOptions = FXCollections.observableArrayList();
+        AsyncDAO.supply("ReferenceDataCache.aircraft", ReferenceDataCache::getAircraft).thenAccept(aircraftList -> {
+            ObservableList<String> aircraftOptions = FXCollections.observableArrayList();
 
-        for (Aircraft aircraft : aircraftList) {
-            aircraftOptions.add(aircraft.getMatricolaVelivolo());
-        }
+            for (Aircraft aircraft : aircraftList) {
+                aircraftOptions.add(aircraft.getMatricolaVelivolo());
+            }
 
-        aircraftComboBox.setItems(aircraftOptions);
+            aircraftComboBox.setItems(aircraftOptions);
+        });
     }
 
     /**
@@ -164,161 +161,45 @@ public class PFMDController {
      * @param matricolaVelivolo The aircraft serial number
      */
     private void loadMissions(String matricolaVelivolo) {
-        Connection connection = null;
-        PreparedStatement statement = null;
-        ResultSet resultSet = null;
-
-        try {
-            connection = DBUtil.getConnection();
-
-            // Query missions that don't have recorded data yet
-            String query = "SELECT m.ID, m.NumeroVolo FROM missione m " +
-                    "WHERE m.MatricolaVelivolo = ? " +
-                    "AND NOT EXISTS (SELECT 1 FROM dati_registrati dr " +
-                    "               WHERE dr.MatricolaVelivolo = m.MatricolaVelivolo " +
-                    "               AND dr.NumeroVolo = m.NumeroVolo)";
-
-            statement = connection.prepareStatement(query);
-            statement.setString(1, matricolaVelivolo);
-            resultSet = statement.executeQuery();
-
-            ObservableList<String> missionOptions = FXCollections.observableArrayList();
+        AsyncDAO.latest("PFMDController.missionComboBox",
+                        () -> missionDAO.getMissionsWithoutRecordedData(matricolaVelivolo))
+                .thenAccept(missions -> {
+                    ObservableList<String> missionOptions = FXCollections.observableArrayList();
 
-            while (resultSet.next()) {
-                int id = resultSet.getInt("ID");
-                int flightNumber = resultSet.getInt("NumeroVolo");
-                missionOptions.add(id + " - Flight #" + flightNumber);
-            }
+                    for (Mission mission : missions) {
+                        missionOptions.add(mission.getId() + " - Flight #" + mission.getNumeroVolo());
+                    }
 
-            missionComboBox.setItems(missionOptions);
-        } catch (SQLException e) {
-            Window owner = aircraftComboBox.getScene().getWindow();
-            AlertUtils.showError(owner, "Database Error", "Failed to load missions: " + e.getMessage());
-        } finally {
-            DBUtil.closeResources(connection, statement, resultSet);
-        }
-    }
-
-    /**
-     * Checks if a table exists in the database.
-     *
-     * @param connection The database connection
-     * @param tableName The name of the table to check
-     * @return true if the table exists, false otherwise
-     */
-    private boolean tableExists(Connection connection, String tableName) throws SQLException {
-        ResultSet resultSet = null;
-        try {
-            // Get the database metadata
-            DatabaseMetaData metaData = connection.getMetaData();
-
-            // Get the current catalog (database)
-            String catalog = connection.getCatalog();
-
-            // Check if the table exists in the current database
-            resultSet = metaData.getTables(catalog, null, tableName, new String[] {"TABLE"});
-            return resultSet.next();
-        } finally {
-            if (resultSet != null) {
-                resultSet.close();
-            }
-        }
+                    missionComboBox.setItems(missionOptions);
+                });
     }
 
     /**
      * Loads the weapons/missiles configuration for a mission.
-     * Handles cases where tables don't exist yet.
      *
-     * @param missionId The mission ID
+     * @param loadout The mission's hardpoint configuration
      */
-    private void loadMissionWeapons(int missionId) {
-        Connection connection = null;
-        PreparedStatement statement = null;
-        ResultSet resultSet = null;
-
-        try {
-            connection = DBUtil.getConnection();
-
-            // Clear existing data
-            loadedWeapons.clear();
-
-            // Check if tables exist before trying to query them
-            boolean historicalLoadExists = tableExists(connection, "historical_load");
-            boolean historicalLauncherExists = tableExists(connection, "historical_launcher");
-
-            if (historicalLoadExists) {
-                // Query weapons from historical_load
-                String loadQuery = "SELECT 'weapon' as type, position, weapon_id as item_id, serial_number " +
-                        "FROM historical_load WHERE mission_id = ?";
-                statement = connection.prepareStatement(loadQuery);
-                statement.setInt(1, missionId);
-                resultSet = statement.executeQuery();
-
-                while (resultSet.next()) {
-                    String position = resultSet.getString("position");
-                    String type = resultSet.getString("type");
-                    String itemId = resultSet.getString("item_id");
-                    String serialNumber = resultSet.getString("serial_number");
-
-                    Map<String, String> itemData = new HashMap<>();
-                    itemData.put("type", type);
-                    itemData.put("id", itemId);
-                    itemData.put("serialNumber", serialNumber);
-
-                    loadedWeapons.put(position, itemData);
-
-                    // Initialize all loaded positions as "not fired"
-                    String statusKey = getStatusKeyForPosition(position);
-                    if (statusKey != null) {
-                        missileStatusMap.put(statusKey, false);
-                    }
-                }
+    private void loadMissionWeapons(Loadout loadout) {
+        // Clear existing data
+        loadedWeapons.clear();
 
-                // Close resources
-                DBUtil.closeResources(null, statement, resultSet);
-            }
+        for (Map.Entry<String, Map<String, String>> entry : loadout.getPositions().entrySet()) {
+            String position = entry.getKey();
+            loadedWeapons.put(position, new HashMap<>(entry.getValue()));
 
-            if (historicalLauncherExists) {
-                // Query launchers from historical_launcher
-                String launcherQuery = "SELECT 'launcher' as type, position, launcher_id as item_id, serial_number " +
-                        "FROM historical_launcher WHERE mission_id = ?";
-                statement = connection.prepareStatement(launcherQuery);
-                statement.setInt(1, missionId);
-                resultSet = statement.executeQuery();
-
-                while (resultSet.next()) {
-                    String position = resultSet.getString("position");
-                    String type = resultSet.getString("type");
-                    String itemId = resultSet.getString("item_id");
-                    String serialNumber = resultSet.getString("serial_number");
-
-                    Map<String, String> itemData = new HashMap<>();
-                    itemData.put("type", type);
-                    itemData.put("id", itemId);
-                    itemData.put("serialNumber", serialNumber);
-
-                    loadedWeapons.put(position, itemData);
-
-                    // Launchers themselves can't be fired, but we add them to the map for display purposes
-                    String statusKey = getStatusKeyForPosition(position);
-                    if (statusKey != null) {
-                        missileStatusMap.put(statusKey, false);
-                    }
-                }
+            // Initialize all loaded positions as "not fired"; launchers can't be fired,
+            // but we add them to the map for display purposes
+            String statusKey = getStatusKeyForPosition(position);
+            if (statusKey != null) {
+                missileStatusMap.put(statusKey, false);
             }
+        }
 
-            if (!historicalLoadExists && !historicalLauncherExists) {
-                // Both tables don't exist, show a friendlier message
-                Window owner = aircraftComboBox.getScene().getWindow();
-                AlertUtils.showInformation(owner, "No Weapon Configuration",
-                        "No weapon configuration found for this mission. Please configure weapons in the Mission Management screen first.");
-            }
-        } catch (SQLException e) {
+        if (loadedWeapons.isEmpty()) {
+            // Nothing configured for this mission, show a friendlier message
             Window owner = aircraftComboBox.getScene().getWindow();
-            AlertUtils.showError(owner, "Database Error", "Failed to load mission weapons: " + e.getMessage());
-            e.printStackTrace();
-        } finally {
-            DBUtil.closeResources(connection, statement, resultSet);
+            AlertUtils.showInformation(owner, "No Weapon Configuration",
+                    "No weapon configuration found for this mission. Please configure weapons in the Mission Management screen first.");
         }
     }
 
@@ -391,16 +272,21 @@ public class PFMDController {
 
         // Extract mission ID from the selection (format: "ID - Flight #XX")
         int missionId = Integer.parseInt(selectedMissionStr.split(" - ")[0]);
-        currentMissionId = missionId;
-
-        // Load mission weapons configuration
-        loadMissionWeapons(missionId);
 
         // Clear form fields
         clearFormFields();
 
-        // Update UI to reflect loaded weapons
-        updateMissilePositionStyles();
+        // Weapons and launchers are read together in one query
+        AsyncDAO.latest("PFMDController.missionWeapons", () -> loadoutDAO.getByMissionId(missionId))
+                .thenAccept(loadout -> {
+                    currentMissionId = missionId;
+
+                    // Load mission weapons configuration
+                    loadMissionWeapons(loadout);
+
+                    // Update UI to reflect loaded weapons
+                    updateMissilePositionStyles();
+                });
     }
 
     /**
@@ -557,16 +443,9 @@ public class PFMDController {
             return;
         }
 
-        // Get aircraft and mission number
+        // Get aircraft and mission ID
         String selectedAircraft = aircraftComboBox.getValue();
-
-        // Get mission number from database based on mission ID
-        Integer missionNumber = getMissionNumber(currentMissionId);
-
-        if (missionNumber == null) {
-            AlertUtils.showError(owner, "Database Error", "Failed to get mission number");
-            return;
-        }
+        int missionId = currentMissionId;
 
         // Validate numeric fields
         BigDecimal gloadMax, gloadMin;
@@ -585,7 +464,6 @@ public class PFMDController {
         // Create recorded data object
         RecordedData recordedData = new RecordedData();
         recordedData.setMatricolaVelivolo(selectedAircraft);
-        recordedData.setNumeroVolo(missionNumber);
         recordedData.setGloadMax(gloadMax);
         recordedData.setGloadMin(gloadMin);
         recordedData.setQuotaMedia(quotaMedia);
@@ -593,52 +471,31 @@ public class PFMDController {
         recordedData.setStatoMissili(buildMissileStatusString());
         recordedData.setStatoElaborato(true);
 
-        // Save data to database
-        boolean success = recordedDataDAO.insert(recordedData);
-
-        // Show appropriate message
-        if (success) {
-            AlertUtils.showInformation(owner, "Success", "Flight data saved successfully");
-
-            // Clear form and update mission list
-            clearForm();
-            loadMissions(selectedAircraft);
-        } else {
-            AlertUtils.showError(owner, "Error", "Failed to save flight data");
-        }
-    }
-
-    /**
-     * Gets the mission number from the mission ID.
-     *
-     * @param missionId The mission ID
-     * @return The mission number or null if not found
-     */
-    private Integer getMissionNumber(int missionId) {
-        Connection connection = null;
-        PreparedStatement statement = null;
-        ResultSet resultSet = null;
-
-        try {
-            connection = DBUtil.getConnection();
-
-            String query = "SELECT NumeroVolo FROM missione WHERE ID = ?";
-            statement = connection.prepareStatement(query);
-            statement.setInt(1, missionId);
-            resultSet = statement.executeQuery();
-
-            if (resultSet.next()) {
-                return resultSet.getInt("NumeroVolo");
-            }
-
-            return null;
-        } catch (SQLException e) {
-            Window owner = aircraftComboBox.getScene().getWindow();
-            AlertUtils.showError(owner, "Database Error", "Failed to get mission number: " + e.getMessage());
-            return null;
-        } finally {
-            DBUtil.closeResources(connection, statement, resultSet);
-        }
+        // Look up the mission number and save the data in the background;
+        // null means the mission could not be found
+        AsyncDAO.supply(() -> {
+                    Mission mission = missionDAO.getById(missionId);
+                    if (mission == null) {
+                        return null;
+                    }
+                    recordedData.setNumeroVolo(mission.getNumeroVolo());
+                    return recordedDataDAO.insert(recordedData);
+                })
+                .exceptionally(error -> false)
+                .thenAccept(success -> {
+                    // Show appropriate message
+                    if (success == null) {
+                        AlertUtils.showError(owner, "Database Error", "Failed to get mission number");
+                    } else if (success) {
+                        AlertUtils.showInformation(owner, "Success", "Flight data saved successfully");
+
+                        // Clear form and update mission list
+                        clearForm();
+                        loadMissions(selectedAircraft);
+                    } else {
+                        AlertUtils.showError(owner, "Error", "Failed to save flight data");
+                    }
+                });
     }
 
     /**
@@ -1,16 +1,18 @@
 package com.aircraft.controller;
 
 import java.net.URL;
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
-import java.sql.SQLException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
+import com.aircraft.dao.AsyncDAO;
+import com.aircraft.dao.ReferenceDataCache;
+import com.aircraft.model.Launcher;
+import com.aircraft.model.Weapon;
 import com.aircraft.util.AlertUtils;
-import com.aircraft.util.DBUtil;
 
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
@@ -45,6 +47,9 @@ public class WeaponConfigurationController implements Initializable {
     @FXML private Button clearPositionButton;
     @FXML private Button closeButton;
 
+    // Refresh channel for the part number list; switching type replaces a load still running
+    private static final String WEAPON_IDS_CHANNEL = "WeaponConfigurationController.weaponIds";
+
     private MissionManagementController parentController;
     private Map<String, Map<String, String>> selectedPositions = new HashMap<>();
     private String currentSelectedPosition;
@@ -167,34 +172,18 @@ public class WeaponConfigurationController implements Initializable {
      * @param type The weapon type ("Weapon" or "Launcher")
      */
     private void loadWeaponIds(String type) {
-        Connection connection = null;
-        PreparedStatement statement = null;
-        ResultSet resultSet = null;
-
-        try {
-            connection = DBUtil.getConnection();
-
-            String query;
-            if ("Weapon".equals(type)) {
-                query = "SELECT PartNumber FROM anagrafica_carichi";
-            } else { // Launcher
-                query = "SELECT PartNumber FROM anagrafica_lanciatore";
-            }
-
-            statement = connection.prepareStatement(query);
-            resultSet = statement.executeQuery();
-
-            weaponIdComboBox.getItems().clear();
-
-            while (resultSet.next()) {
-                weaponIdComboBox.getItems().add(resultSet.getString("PartNumber"));
-            }
-        } catch (SQLException e) {
-            Window owner = weaponTypeComboBox.getScene().getWindow();
-            AlertUtils.showError(owner, "Database Error", "Failed to load weapon IDs: " + e.getMessage());
-        } finally {
-            DBUtil.closeResources(connection, statement, resultSet);
+        CompletableFuture<List<String>> partNumbers;
+        if ("Weapon".equals(type)) {
+            partNumbers = AsyncDAO.latest(WEAPON_IDS_CHANNEL, () -> ReferenceDataCache.getWeapons().stream()
+                    .map(Weapon::getPartNumber)
+                    .collect(Collectors.toList()));
+        } else { // Launcher
+            partNumbers = AsyncDAO.latest(WEAPON_IDS_CHANNEL, () -> ReferenceDataCache.getLaunchers().stream()
+                    .map(Launcher::getPartNumber)
+                    .collect(Collectors.toList()));
         }
+
+        partNumbers.thenAccept(ids -> weaponIdComboBox.getItems().setAll(ids));
     }
 
     /**
@@ -1,5 +1,7 @@
 package com.aircraft.controller;
 
+import com.aircraft.dao.AsyncDAO;
+import com.aircraft.dao.ReferenceDataCache;
 import com.aircraft.dao.WeaponDAO;
 import com.aircraft.model.Weapon;
 import com.aircraft.util.AlertUtils;
@@ -90,9 +92,11 @@ public class WeaponLoadController {
      * Refreshes the weapon table with data from the database.
      */
     private void refreshWeaponTable() {
-        weaponList.clear();
-        weaponList.addAll(weaponDAO.getAll());
-        weaponTableView.setItems(weaponList);
+        AsyncDAO.latest("WeaponLoadController.weaponTable", ReferenceDataCache::getWeapons).thenAccept(weapons -> {
+            weaponList.clear();
+            weaponList.addAll(weapons);
+            weaponTableView.setItems(weaponList);
+        });
     }
 
     /**
@@ -199,12 +203,6 @@ public class WeaponLoadController {
             return;
         }
 
-        // Check if weapon already exists
-        if (weaponDAO.exists(partNumberField.getText())) {
-            AlertUtils.showError(owner, "Validation Error", "Weapon with this Part Number already exists");
-            return;
-        }
-
         // Create weapon object
         Weapon weapon = new Weapon();
         weapon.setPartNumber(partNumberField.getText());
@@ -212,16 +210,22 @@ public class WeaponLoadController {
         weapon.setCodiceDitta(codiceDittaField.getText());
         weapon.setMassa(massa);
 
-        // Save weapon
-        boolean success = weaponDAO.insert(weapon);
-
-        if (success) {
-            AlertUtils.showInformation(owner, "Success", "Data entered correctly");
-            clearForm();
-            showMainView(); // Return to main view after successful save
-        } else {
-            AlertUtils.showError(owner, "Error", "Failed to save weapon data");
-        }
+        // Check if weapon already exists, then save it; null means the Part Number is taken
+        saveButton.setDisable(true);
+        AsyncDAO.supply(() -> weaponDAO.exists(weapon.getPartNumber()) ? null : weaponDAO.insert(weapon))
+                .exceptionally(error -> false)
+                .thenAccept(success -> {
+                    saveButton.setDisable(false);
+                    if (success == null) {
+                        AlertUtils.showError(owner, "Validation Error", "Weapon with this Part Number already exists");
+                    } else if (success) {
+                        AlertUtils.showInformation(owner, "Success", "Data entered correctly");
+                        clearForm();
+                        showMainView(); // Return to main view after successful save
+                    } else {
+                        AlertUtils.showError(owner, "Error", "Failed to save weapon data");
+                    }
+                });
     }
 
     /**
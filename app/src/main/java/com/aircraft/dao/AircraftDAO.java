@@ -1,6 +1,7 @@
 package com.aircraft.dao;
 
 import com.aircraft.model.Aircraft;
+import com.aircraft.model.AircraftRowMapper;
 import com.aircraft.util.DBUtil;
 
 import java.sql.Connection;
@@ -31,12 +32,16 @@ public class AircraftDAO {
             conn = DBUtil.getConnection();
 
             // SQL query to insert a new aircraft
-            String sql = "INSERT INTO matricola_velivolo (MatricolaVelivolo) VALUES (?)";
+            String sql = "INSERT INTO matricola_velivolo (" + AircraftRowMapper.INSERT_COLUMNS + ") VALUES (" +
+                    AircraftRowMapper.INSERT_PARAMETERS + ")";
             stmt = conn.prepareStatement(sql);
-            stmt.setString(1, aircraft.getMatricolaVelivolo());
+            AircraftRowMapper.bindInsert(stmt, aircraft, 1);
 
             int rowsAffected = stmt.executeUpdate();
             success = rowsAffected > 0;
+
+            // The cached catalog is reloaded on its next use
+            ReferenceDataCache.invalidateAircraft();
         } catch (SQLException e) {
             System.err.println("Error inserting aircraft: " + e.getMessage());
             e.printStackTrace();
@@ -47,6 +52,42 @@ public class AircraftDAO {
         return success;
     }
 
+    /**
+     * Inserts an aircraft unless one with the same serial number already exists, in one statement.
+     * Unlike a check followed by an insert, this is atomic when several workstations save at once.
+     * The serial number is the only column, so an existing aircraft is never changed.
+     *
+     * @param aircraft The Aircraft object to save
+     * @return INSERTED or EXISTING, or FAILED on error
+     */
+    public UpsertResult upsert(Aircraft aircraft) {
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        UpsertResult result = UpsertResult.FAILED;
+
+        try {
+            conn = DBUtil.getConnection();
+
+            // SQL query to insert an aircraft if its serial number is not taken yet
+            String sql = "INSERT IGNORE INTO matricola_velivolo (" + AircraftRowMapper.INSERT_COLUMNS + ") VALUES (" +
+                    AircraftRowMapper.INSERT_PARAMETERS + ")";
+            stmt = conn.prepareStatement(sql);
+            AircraftRowMapper.bindInsert(stmt, aircraft, 1);
+
+            result = UpsertResult.fromUpdateCount(stmt.executeUpdate());
+
+            // The cached catalog is reloaded on its next use
+            ReferenceDataCache.invalidateAircraft();
+        } catch (SQLException e) {
+            System.err.println("Error saving aircraft: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            DBUtil.closeResources(conn, stmt, null);
+        }
+
+        return result;
+    }
+
     /**
      * Updates an existing aircraft in the database.
      * Note: Since MatricolaVelivolo is the primary key, this operation
@@ -105,6 +146,9 @@ public class AircraftDAO {
 
             int rowsAffected = stmt.executeUpdate();
             success = rowsAffected > 0;
+
+            // The cached catalog is reloaded on its next use
+            ReferenceDataCache.invalidateAircraft();
         } catch (SQLException e) {
             System.err.println("Error deleting aircraft: " + e.getMessage());
             e.printStackTrace();
@@ -131,7 +175,7 @@ public class AircraftDAO {
             conn = DBUtil.getConnection();
 
             // SQL query to find an aircraft by serial number
-            String sql = "SELECT * FROM matricola_velivolo WHERE MatricolaVelivolo = ?";
+            String sql = "SELECT " + AircraftRowMapper.COLUMNS + " FROM matricola_velivolo WHERE MatricolaVelivolo = ?";
             stmt = conn.prepareStatement(sql);
             stmt.setString(1, matricolaVelivolo);
 
@@ -139,8 +183,7 @@ public class AircraftDAO {
 
             if (rs.next()) {
                 // Aircraft found, create and return Aircraft object
-                aircraft = new Aircraft();
-                aircraft.setMatricolaVelivolo(rs.getString("MatricolaVelivolo"));
+                aircraft = AircraftRowMapper.map(rs);
             }
         } catch (SQLException e) {
             System.err.println("Error retrieving aircraft: " + e.getMessage());
@@ -167,16 +210,14 @@ public class AircraftDAO {
             conn = DBUtil.getConnection();
 
             // SQL query to retrieve all aircraft
-            String sql = "SELECT * FROM matricola_velivolo";
+            String sql = "SELECT " + AircraftRowMapper.COLUMNS + " FROM matricola_velivolo";
             stmt = conn.prepareStatement(sql);
 
             rs = stmt.executeQuery();
 
             while (rs.next()) {
                 // For each row, create an Aircraft object and add to list
-                Aircraft aircraft = new Aircraft();
-                aircraft.setMatricolaVelivolo(rs.getString("MatricolaVelivolo"));
-
+                Aircraft aircraft = AircraftRowMapper.map(rs);
                 aircraftList.add(aircraft);
             }
         } catch (SQLException e) {
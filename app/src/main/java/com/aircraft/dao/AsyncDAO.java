@@ -0,0 +1,99 @@
+package com.aircraft.dao;
+
+import com.aircraft.db.DatabaseExecutor;
+import javafx.application.Platform;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Asynchronous facade over the DAOs.
+ * A DAO call passed to one of these methods runs on the {@link DatabaseExecutor}, and the
+ * returned future completes on the JavaFX Application Thread, so its callbacks can update
+ * controls directly:
+ * <pre>
+ * AsyncDAO.latest("missions.table", missionDAO::getAll)
+ *         .thenAccept(missions -> missionList.setAll(missions));
+ * </pre>
+ * If the executor's queue is full the future fails with a
+ * {@link java.util.concurrent.RejectedExecutionException}; a superseded request's future
+ * is cancelled, so its callbacks never run.
+ */
+public final class AsyncDAO {
+
+    private AsyncDAO() {
+        // Static utility class
+    }
+
+    /**
+     * Runs a DAO query in the background.
+     *
+     * @param query The DAO call to run
+     * @param <T> The result type
+     * @return A future completed on the JavaFX Application Thread with the query result
+     */
+    public static <T> CompletableFuture<T> supply(Supplier<T> query) {
+        return onFxThread(DatabaseExecutor.get().submit(query));
+    }
+
+    /**
+     * Runs a DAO query in the background, sharing the result with an identical query that
+     * is still waiting to run. Use for reads that many screens issue with the same arguments.
+     *
+     * @param key Identifies the query and its arguments
+     * @param query The DAO call to run
+     * @param <T> The result type
+     * @return A future completed on the JavaFX Application Thread with the query result
+     */
+    public static <T> CompletableFuture<T> supply(String key, Supplier<T> query) {
+        return onFxThread(DatabaseExecutor.get().submitCoalesced(key, query));
+    }
+
+    /**
+     * Runs a DAO query that refreshes a control, cancelling the previous refresh of the same
+     * control if it has not delivered its result yet.
+     *
+     * @param channel Identifies the control being refreshed
+     * @param query The DAO call to run
+     * @param <T> The result type
+     * @return A future completed on the JavaFX Application Thread, or cancelled if superseded
+     */
+    public static <T> CompletableFuture<T> latest(String channel, Supplier<T> query) {
+        return onFxThread(DatabaseExecutor.get().submitLatest(channel, query));
+    }
+
+    /**
+     * Runs a DAO update in the background.
+     *
+     * @param update The DAO call to run
+     * @return A future completed on the JavaFX Application Thread when the update has run
+     */
+    public static CompletableFuture<Void> run(Runnable update) {
+        return supply(() -> {
+            update.run();
+            return null;
+        });
+    }
+
+    private static <T> CompletableFuture<T> onFxThread(CompletableFuture<T> source) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        source.whenComplete((value, error) -> Platform.runLater(() -> {
+            // The source may have been superseded while this hop was queued
+            if (source.isCancelled()) {
+                result.cancel(false);
+            } else if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error;
+                if (!(cause instanceof CancellationException)) {
+                    System.err.println("Error in background database call: " + cause.getMessage());
+                }
+                result.completeExceptionally(cause);
+            } else {
+                result.complete(value);
+            }
+        }));
+        return result;
+    }
+}
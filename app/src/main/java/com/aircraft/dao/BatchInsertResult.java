@@ -0,0 +1,91 @@
+package com.aircraft.dao;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of a DAO bulk insert: the generated ID of every row, in input order,
+ * and the error of every row that could not be inserted.
+ */
+public class BatchInsertResult {
+    private final int[] generatedIds;
+    private final Map<Integer, SQLException> failures = new LinkedHashMap<>();
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param rowCount The number of rows submitted
+     */
+    BatchInsertResult(int rowCount) {
+        this.generatedIds = new int[rowCount];
+    }
+
+    void setGeneratedId(int index, int id) {
+        generatedIds[index] = id;
+    }
+
+    void addFailure(int index, SQLException error) {
+        failures.put(index, error);
+    }
+
+    /**
+     * Gets the generated IDs, one per submitted row in input order.
+     *
+     * @return The IDs, with 0 for every row that failed
+     */
+    public int[] getGeneratedIds() {
+        return generatedIds.clone();
+    }
+
+    /**
+     * Gets the errors of the rows that could not be inserted.
+     *
+     * @return An unmodifiable map from row index in the input to its error, in input order
+     */
+    public Map<Integer, SQLException> getFailures() {
+        return Collections.unmodifiableMap(failures);
+    }
+
+    /**
+     * Gets the number of rows inserted.
+     *
+     * @return The inserted row count
+     */
+    public int getInsertedCount() {
+        return generatedIds.length - failures.size();
+    }
+
+    /**
+     * Checks whether every submitted row was inserted.
+     *
+     * @return true if no row failed
+     */
+    public boolean isSuccess() {
+        return failures.isEmpty();
+    }
+
+    /**
+     * Gets the input indexes of the rows that could not be inserted.
+     *
+     * @return The failed row indexes, in input order
+     */
+    public List<Integer> getFailedIndexes() {
+        return List.copyOf(failures.keySet());
+    }
+
+    /**
+     * Returns a string representation of the BatchInsertResult object.
+     *
+     * @return A string representation of the BatchInsertResult
+     */
+    @Override
+    public String toString() {
+        return "BatchInsertResult{" +
+                "inserted=" + getInsertedCount() +
+                ", failed=" + failures.size() +
+                '}';
+    }
+}
@@ -0,0 +1,645 @@
+package com.aircraft.dao;
+
+import com.aircraft.config.DBConfig;
+import com.aircraft.db.UnitOfWork;
+import com.aircraft.model.Launcher;
+import com.aircraft.model.LauncherLifeStatus;
+import com.aircraft.model.LauncherLifeStatusRowMapper;
+import com.aircraft.model.LauncherRowMapper;
+import com.aircraft.util.DBUtil;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Data Access Object for Launcher-related database operations.
+ * Provides methods for CRUD operations on launchers and retrieving launcher status.
+ */
+public class LauncherDAO {
+
+    // Query text shared with the query plan test
+    static final String SELECT_LIFE_STATUS = "SELECT " + LauncherLifeStatusRowMapper.COLUMNS +
+            " FROM stato_vita_lanciatore WHERE Lanciatore_SerialNumber = ?";
+    static final String SELECT_LIFE_STATUSES_BY_REMAINING_LIFE = "SELECT " + LauncherLifeStatusRowMapper.COLUMNS +
+            " FROM stato_vita_lanciatore ORDER BY Vita_Residua_Percentuale ASC, Lanciatore_SerialNumber LIMIT ?";
+
+    /**
+     * Inserts a new launcher into the database.
+     *
+     * @param launcher The Launcher object to insert
+     * @return true if insertion was successful, false otherwise
+     */
+    public boolean insert(Launcher launcher) {
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        boolean success = false;
+
+        try {
+            conn = DBUtil.getConnection();
+
+            // SQL query to insert a new launcher
+            String sql = "INSERT INTO anagrafica_lanciatore (" + LauncherRowMapper.INSERT_COLUMNS + ") VALUES (" +
+                    LauncherRowMapper.INSERT_PARAMETERS + ")";
+            stmt = conn.prepareStatement(sql);
+            LauncherRowMapper.bindInsert(stmt, launcher, 1);
+
+            int rowsAffected = stmt.executeUpdate();
+            success = rowsAffected > 0;
+
+            // The cached catalog is reloaded on its next use
+            ReferenceDataCache.invalidateLaunchers();
+        } catch (SQLException e) {
+            System.err.println("Error inserting launcher: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            DBUtil.closeResources(conn, stmt, null);
+        }
+
+        return success;
+    }
+
+    /**
+     * Inserts a launcher, or updates the existing one with the same part number, in one statement.
+     * Unlike a check followed by an insert, this is atomic when several workstations save at once.
+     *
+     * @param launcher The Launcher object to save
+     * @return Whether the launcher was inserted or updated, or FAILED on error
+     */
+    public UpsertResult upsert(Launcher launcher) {
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        UpsertResult result = UpsertResult.FAILED;
+
+        try {
+            conn = DBUtil.getConnection();
+
+            // SQL query to insert a launcher or update the one with the same key
+            String sql = "INSERT INTO anagrafica_lanciatore (" + LauncherRowMapper.INSERT_COLUMNS + ") VALUES (" +
+                    LauncherRowMapper.INSERT_PARAMETERS + ") AS new ON DUPLICATE KEY UPDATE " + LauncherRowMapper.UPSERT_ASSIGNMENTS;
+            stmt = conn.prepareStatement(sql);
+            LauncherRowMapper.bindInsert(stmt, launcher, 1);
+
+            result = UpsertResult.fromUpdateCount(stmt.executeUpdate());
+
+            // The cached catalog is reloaded on its next use
+            ReferenceDataCache.invalidateLaunchers();
+        } catch (SQLException e) {
+            System.err.println("Error saving launcher: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            DBUtil.closeResources(conn, stmt, null);
+        }
+
+        return result;
+    }
+
+    /**
+     * Inserts a new launcher unless one with the same part number already exists, in one statement.
+     * Unlike a check followed by an insert, this is atomic when several workstations save at once,
+     * and unlike {@link #upsert(Launcher)} it never changes an existing launcher.
+     *
+     * @param launcher The Launcher object to insert
+     * @return INSERTED or EXISTING, or FAILED on error
+     */
+    public UpsertResult insertIfAbsent(Launcher launcher) {
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        UpsertResult result = UpsertResult.FAILED;
+
+        try {
+            conn = DBUtil.getConnection();
+
+            // SQL query to insert a new launcher; a taken key fails with a duplicate key error
+            String sql = "INSERT INTO anagrafica_lanciatore (" + LauncherRowMapper.INSERT_COLUMNS + ") VALUES (" +
+                    LauncherRowMapper.INSERT_PARAMETERS + ")";
+            stmt = conn.prepareStatement(sql);
+            LauncherRowMapper.bindInsert(stmt, launcher, 1);
+
+            result = stmt.executeUpdate() > 0 ? UpsertResult.INSERTED : UpsertResult.FAILED;
+
+            // The cached catalog is reloaded on its next use
+            ReferenceDataCache.invalidateLaunchers();
+        } catch (SQLException e) {
+            if (UpsertResult.isDuplicateKey(e)) {
+                result = UpsertResult.EXISTING;
+            } else {
+                System.err.println("Error inserting launcher: " + e.getMessage());
+                e.printStackTrace();
+            }
+        } finally {
+            DBUtil.closeResources(conn, stmt, null);
+        }
+
+        return result;
+    }
+
+    /**
+     * Updates an existing launcher in the database.
+     *
+     * @param launcher The Launcher object to update
+     * @return true if update was successful, false otherwise
+     */
+    public boolean update(Launcher launcher) {
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        boolean success = false;
+
+        try {
+            conn = DBUtil.getConnection();
+
+            // SQL query to update an existing launcher
+            String sql = "UPDATE anagrafica_lanciatore SET " + LauncherRowMapper.UPDATE_ASSIGNMENTS +
+                    " WHERE " + LauncherRowMapper.KEY_CONDITION;
+            stmt = conn.prepareStatement(sql);
+            LauncherRowMapper.bindUpdate(stmt, launcher, 1);
+
+            int rowsAffected = stmt.executeUpdate();
+            success = rowsAffected > 0;
+
+            // The cached catalog is reloaded on its next use
+            ReferenceDataCache.invalidateLaunchers();
+        } catch (SQLException e) {
+            System.err.println("Error updating launcher: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            DBUtil.closeResources(conn, stmt, null);
+        }
+
+        return success;
+    }
+
+    /**
+     * Deletes a launcher from the database by its part number.
+     *
+     * @param partNumber The part number of the launcher to delete
+     * @return true if deletion was successful, false otherwise
+     */
+    public boolean delete(String partNumber) {
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        boolean success = false;
+
+        try {
+            conn = DBUtil.getConnection();
+
+            // SQL query to delete a launcher
+            String sql = "DELETE FROM anagrafica_lanciatore WHERE PartNumber = ?";
+            stmt = conn.prepareStatement(sql);
+            stmt.setString(1, partNumber);
+
+            int rowsAffected = stmt.executeUpdate();
+            success = rowsAffected > 0;
+
+            // The cached catalog is reloaded on its next use
+            ReferenceDataCache.invalidateLaunchers();
+        } catch (SQLException e) {
+            System.err.println("Error deleting launcher: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            DBUtil.closeResources(conn, stmt, null);
+        }
+
+        return success;
+    }
+
+    /**
+     * Retrieves a launcher by its part number.
+     *
+     * @param partNumber The part number of the launcher to retrieve
+     * @return The Launcher object if found, null otherwise
+     */
+    public Launcher getByPartNumber(String partNumber) {
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        ResultSet rs = null;
+        Launcher launcher = null;
+
+        try {
+            conn = DBUtil.getConnection();
+
+            // SQL query to find a launcher by part number
+            String sql = "SELECT " + LauncherRowMapper.COLUMNS + " FROM anagrafica_lanciatore WHERE PartNumber = ?";
+            stmt = conn.prepareStatement(sql);
+            stmt.setString(1, partNumber);
+
+            rs = stmt.executeQuery();
+
+            if (rs.next()) {
+                // Launcher found, create and return Launcher object
+                launcher = LauncherRowMapper.map(rs);
+            }
+        } catch (SQLException e) {
+            System.err.println("Error retrieving launcher: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            DBUtil.closeResources(conn, stmt, rs);
+        }
+
+        return launcher;
+    }
+
+    /**
+     * Retrieves all launchers from the database.
+     *
+     * @return A List of all Launcher objects
+     */
+    public List<Launcher> getAll() {
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        ResultSet rs = null;
+        List<Launcher> launchers = new ArrayList<>();
+
+        try {
+            conn = DBUtil.getConnection();
+
+            // SQL query to retrieve all launchers
+            String sql = "SELECT " + LauncherRowMapper.COLUMNS + " FROM anagrafica_lanciatore";
+            stmt = conn.prepareStatement(sql);
+
+            rs = stmt.executeQuery();
+
+            while (rs.next()) {
+                // For each row, create a Launcher object and add to list
+                Launcher launcher = LauncherRowMapper.map(rs);
+                launchers.add(launcher);
+            }
+        } catch (SQLException e) {
+            System.err.println("Error retrieving launchers: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            DBUtil.closeResources(conn, stmt, rs);
+        }
+
+        return launchers;
+    }
+
+    /**
+     * Checks if a launcher with the given part number exists in the database.
+     *
+     * @param partNumber The part number to check
+     * @return true if the launcher exists, false otherwise
+     */
+    public boolean exists(String partNumber) {
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        ResultSet rs = null;
+        boolean exists = false;
+
+        try {
+            conn = DBUtil.getConnection();
+
+            // SQL query to check if a launcher exists
+            String sql = "SELECT 1 FROM anagrafica_lanciatore WHERE PartNumber = ?";
+            stmt = conn.prepareStatement(sql);
+            stmt.setString(1, partNumber);
+
+            rs = stmt.executeQuery();
+
+            exists = rs.next();
+        } catch (SQLException e) {
+            System.err.println("Error checking launcher existence: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            DBUtil.closeResources(conn, stmt, rs);
+        }
+
+        return exists;
+    }
+
+    /**
+     * Gets the life status of a launcher by its serial number.
+     * The status is read from the materialized stato_vita_lanciatore table, which is kept
+     * current by {@link #refreshLifeStatus(Collection)} and the methods built on it.
+     *
+     * @param serialNumber The serial number of the launcher
+     * @return The LauncherLifeStatus object if found, null otherwise
+     */
+    public LauncherLifeStatus getLauncherLifeStatus(String serialNumber) {
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        ResultSet rs = null;
+        LauncherLifeStatus status = null;
+
+        try {
+            conn = DBUtil.getReadConnection();
+
+            // SQL query to retrieve launcher life status from the materialized table
+            String sql = SELECT_LIFE_STATUS;
+            stmt = conn.prepareStatement(sql);
+            stmt.setString(1, serialNumber);
+
+            rs = stmt.executeQuery();
+
+            if (rs.next()) {
+                // Status found, create and return LauncherLifeStatus object
+                status = LauncherLifeStatusRowMapper.map(rs);
+            }
+        } catch (SQLException e) {
+            System.err.println("Error retrieving launcher life status: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            DBUtil.closeResources(conn, stmt, rs);
+        }
+
+        return status;
+    }
+
+    /**
+     * Gets the life status of many launchers at once.
+     * Serial numbers are looked up in chunks of {@link DBConfig#IN_LIST_CHUNK_SIZE}
+     * on one connection, so a fleet overview costs one round-trip per chunk.
+     *
+     * @param serialNumbers The serial numbers of the launchers
+     * @return The life status of every launcher found, in no particular order
+     */
+    public List<LauncherLifeStatus> getLauncherLifeStatuses(Collection<String> serialNumbers) {
+        List<String> serials = new ArrayList<>(new LinkedHashSet<>(serialNumbers));
+        List<LauncherLifeStatus> statuses = new ArrayList<>();
+        if (serials.isEmpty()) {
+            return statuses;
+        }
+
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        ResultSet rs = null;
+
+        try {
+            conn = DBUtil.getReadConnection();
+
+            for (int from = 0; from < serials.size(); from += DBConfig.IN_LIST_CHUNK_SIZE) {
+                List<String> chunk = serials.subList(from, Math.min(from + DBConfig.IN_LIST_CHUNK_SIZE, serials.size()));
+
+                // SQL query to retrieve the life status of one chunk of launchers
+                String sql = "SELECT " + LauncherLifeStatusRowMapper.COLUMNS + " FROM stato_vita_lanciatore " +
+                        "WHERE Lanciatore_SerialNumber IN (" + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")";
+                stmt = conn.prepareStatement(sql);
+                for (int i = 0; i < chunk.size(); i++) {
+                    stmt.setString(i + 1, chunk.get(i));
+                }
+
+                rs = stmt.executeQuery();
+
+                while (rs.next()) {
+                    statuses.add(LauncherLifeStatusRowMapper.map(rs));
+                }
+
+                DBUtil.closeResources(null, stmt, rs);
+                stmt = null;
+                rs = null;
+            }
+        } catch (SQLException e) {
+            System.err.println("Error retrieving launcher life statuses: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            DBUtil.closeResources(conn, stmt, rs);
+        }
+
+        return statuses;
+    }
+
+    /**
+     * Gets the life status of every launcher in one query.
+     *
+     * @return The life status of all launchers, ordered by serial number
+     */
+    public List<LauncherLifeStatus> getAllLauncherLifeStatuses() {
+        return queryLifeStatuses("SELECT " + LauncherLifeStatusRowMapper.COLUMNS + " FROM stato_vita_lanciatore " +
+                "ORDER BY Lanciatore_SerialNumber", 0);
+    }
+
+    /**
+     * Gets the launchers closest to the end of their operational life.
+     *
+     * @param limit The maximum number of launchers to return
+     * @return The life status of the launchers, lowest remaining life first
+     */
+    public List<LauncherLifeStatus> getLauncherLifeStatusesByRemainingLife(int limit) {
+        return queryLifeStatuses(SELECT_LIFE_STATUSES_BY_REMAINING_LIFE, limit);
+    }
+
+    /**
+     * Runs a life status query over the whole table.
+     *
+     * @param sql The query, with a LIMIT parameter if limit is positive
+     * @param limit The value of the LIMIT parameter, or 0 if the query has none
+     */
+    private List<LauncherLifeStatus> queryLifeStatuses(String sql, int limit) {
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        ResultSet rs = null;
+        List<LauncherLifeStatus> statuses = new ArrayList<>();
+
+        try {
+            conn = DBUtil.getReadConnection();
+
+            stmt = conn.prepareStatement(sql);
+            if (limit > 0) {
+                stmt.setInt(1, limit);
+            }
+
+            rs = stmt.executeQuery();
+
+            while (rs.next()) {
+                statuses.add(LauncherLifeStatusRowMapper.map(rs));
+            }
+        } catch (SQLException e) {
+            System.err.println("Error retrieving launcher life statuses: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            DBUtil.closeResources(conn, stmt, rs);
+        }
+
+        return statuses;
+    }
+
+    /**
+     * Recomputes the life status of the given launchers from vista_stato_vita_lanciatore
+     * and stores it in stato_vita_lanciatore.
+     * Call it in the same unit of work as any change to the loadout history of these launchers.
+     *
+     * @param serialNumbers The serial numbers of the launchers whose history changed
+     * @return true if the refresh was successful, false otherwise
+     */
+    public boolean refreshLifeStatus(Collection<String> serialNumbers) {
+        List<String> serials = new ArrayList<>(new LinkedHashSet<>(serialNumbers));
+        if (serials.isEmpty()) {
+            return true;
+        }
+
+        return refreshLifeStatusInChunks(serials, chunk -> {
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            return refreshLifeStatus("IN (" + placeholders + ")", stmt -> {
+                for (int i = 0; i < chunk.size(); i++) {
+                    stmt.setString(i + 1, chunk.get(i));
+                }
+            });
+        });
+    }
+
+    /**
+     * Recomputes the life status of the launchers flown on a mission, after recorded
+     * flight data for that mission has been saved.
+     *
+     * @param matricolaVelivolo The aircraft serial number of the mission
+     * @param numeroVolo The flight number of the mission
+     * @return true if the refresh was successful, false otherwise
+     */
+    public boolean refreshLifeStatusForFlight(String matricolaVelivolo, int numeroVolo) {
+        return refreshLifeStatusForFlights(matricolaVelivolo, List.of(numeroVolo));
+    }
+
+    /**
+     * Recomputes the life status of the launchers flown on several missions of one aircraft,
+     * after recorded flight data for those missions has been saved in bulk.
+     *
+     * @param matricolaVelivolo The aircraft serial number of the missions
+     * @param numeriVolo The flight numbers of the missions
+     * @return true if the refresh was successful, false otherwise
+     */
+    public boolean refreshLifeStatusForFlights(String matricolaVelivolo, Collection<Integer> numeriVolo) {
+        List<Integer> flights = new ArrayList<>(new LinkedHashSet<>(numeriVolo));
+        if (flights.isEmpty()) {
+            return true;
+        }
+
+        return refreshLifeStatusInChunks(flights, chunk -> refreshLifeStatus(flightsSerialFilter(chunk.size()), stmt -> {
+            stmt.setString(1, matricolaVelivolo);
+            for (int i = 0; i < chunk.size(); i++) {
+                stmt.setInt(i + 2, chunk.get(i));
+            }
+        }));
+    }
+
+    /**
+     * Rebuilds stato_vita_lanciatore from scratch out of vista_stato_vita_lanciatore.
+     * Only needed if the loadout history was changed outside the application.
+     *
+     * @return true if the rebuild was successful, false otherwise
+     */
+    public boolean rebuildLifeStatus() {
+        return refreshLifeStatus("IS NOT NULL", stmt -> { });
+    }
+
+    /**
+     * Builds the serial number filter that selects the launchers flown on some flights of one aircraft.
+     *
+     * @param flightCount The number of flight numbers bound after the aircraft serial number
+     * @return The filter, to follow "Lanciatore_SerialNumber"
+     */
+    static String flightsSerialFilter(int flightCount) {
+        return "IN (SELECT hl.serial_number FROM historical_launcher hl " +
+                "JOIN missione m ON m.ID = hl.mission_id WHERE m.MatricolaVelivolo = ? AND m.NumeroVolo IN (" +
+                String.join(", ", Collections.nCopies(flightCount, "?")) + "))";
+    }
+
+    /**
+     * Builds the statement that removes the stored life status of the launchers matching a filter.
+     */
+    static String refreshDeleteSql(String serialFilter) {
+        return "DELETE FROM stato_vita_lanciatore WHERE Lanciatore_SerialNumber " + serialFilter;
+    }
+
+    /**
+     * Builds the statement that stores the life status of the launchers matching a filter from the view.
+     */
+    static String refreshInsertSql(String serialFilter) {
+        return "INSERT INTO stato_vita_lanciatore (" + LauncherLifeStatusRowMapper.COLUMNS + ") " +
+                "SELECT " + LauncherLifeStatusRowMapper.COLUMNS + " FROM vista_stato_vita_lanciatore " +
+                "WHERE Lanciatore_SerialNumber " + serialFilter;
+    }
+
+    /**
+     * Sets the parameters of a serial number filter.
+     */
+    @FunctionalInterface
+    private interface SerialFilterBinder {
+        void bind(PreparedStatement stmt) throws SQLException;
+    }
+
+    /**
+     * Runs a life status refresh for each chunk of at most {@code DBConfig.IN_LIST_CHUNK_SIZE} keys,
+     * so no IN list grows with the input. The chunks are committed together.
+     */
+    private <T> boolean refreshLifeStatusInChunks(List<T> keys, Predicate<List<T>> refreshChunk) {
+        try (UnitOfWork work = UnitOfWork.begin()) {
+            for (int from = 0; from < keys.size(); from += DBConfig.IN_LIST_CHUNK_SIZE) {
+                if (!refreshChunk.test(keys.subList(from, Math.min(from + DBConfig.IN_LIST_CHUNK_SIZE, keys.size())))) {
+                    // Rolled back when the unit of work closes
+                    return false;
+                }
+            }
+
+            work.commit();
+            return true;
+        } catch (SQLException e) {
+            System.err.println("Error refreshing launcher life status: " + e.getMessage());
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    /**
+     * Replaces the stored life status of every launcher whose serial number matches the filter.
+     * Launchers that no longer appear in the view are removed.
+     */
+    private boolean refreshLifeStatus(String serialFilter, SerialFilterBinder binder) {
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        boolean success = false;
+
+        try {
+            conn = DBUtil.getConnection();
+
+            // Begin transaction, so readers never see a launcher missing between the two statements
+            conn.setAutoCommit(false);
+
+            stmt = conn.prepareStatement(refreshDeleteSql(serialFilter));
+            binder.bind(stmt);
+            stmt.executeUpdate();
+            stmt.close();
+
+            stmt = conn.prepareStatement(refreshInsertSql(serialFilter));
+            binder.bind(stmt);
+            stmt.executeUpdate();
+
+            // Commit the transaction
+            conn.commit();
+            success = true;
+        } catch (SQLException e) {
+            // Rollback transaction in case of error
+            try {
+                if (conn != null) {
+                    conn.rollback();
+                }
+            } catch (SQLException ex) {
+                System.err.println("Error rolling back transaction: " + ex.getMessage());
+                ex.printStackTrace();
+            }
+
+            System.err.println("Error refreshing launcher life status: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            // Reset auto-commit
+            try {
+                if (conn != null) {
+                    conn.setAutoCommit(true);
+                }
+            } catch (SQLException e) {
+                System.err.println("Error resetting auto-commit: " + e.getMessage());
+                e.printStackTrace();
+            }
+
+            DBUtil.closeResources(conn, stmt, null);
+        }
+
+        return success;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.aircraft.dao;
+
+import com.aircraft.util.DBUtil;
+
+/**
+ * Command that rebuilds the materialized launcher life status table from
+ * vista_stato_vita_lanciatore, e.g. after loadout history was corrected directly in the database.
+ */
+public final class LauncherLifeStatusRebuild {
+
+    private LauncherLifeStatusRebuild() {
+        // Command line entry point only
+    }
+
+    /**
+     * Rebuilds every launcher life status row.
+     *
+     * @param args Not used
+     */
+    public static void main(String[] args) {
+        long start = System.currentTimeMillis();
+        boolean success = new LauncherDAO().rebuildLifeStatus();
+        DBUtil.shutdown();
+
+        if (!success) {
+            System.err.println("Launcher life status rebuild failed");
+            System.exit(1);
+        }
+        System.out.println("Launcher life status rebuilt in " + (System.currentTimeMillis() - start) + " ms");
+    }
+}
@@ -0,0 +1,294 @@
+package com.aircraft.dao;
+
+import com.aircraft.config.DBConfig;
+import com.aircraft.db.UnitOfWork;
+import com.aircraft.model.Loadout;
+import com.aircraft.util.DBUtil;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Data Access Object for mission hardpoint configurations.
+ * Reads the weapons (historical_load) and launchers (historical_launcher) of one or
+ * many missions in a single query, and saves a configuration by writing only the
+ * positions that changed.
+ */
+public class LoadoutDAO {
+
+    private final LauncherDAO launcherDAO = new LauncherDAO();
+
+    /**
+     * Retrieves the hardpoint configuration of a mission.
+     *
+     * @param missionId The ID of the mission
+     * @return The Loadout, empty if the mission has no configuration or on error
+     */
+    public Loadout getByMissionId(int missionId) {
+        return getByMissionIds(List.of(missionId)).getOrDefault(missionId, new Loadout(missionId));
+    }
+
+    /**
+     * Retrieves the hardpoint configurations of many missions, e.g. for a loadout
+     * summary column in a mission table. Weapons and launchers are read together with
+     * one query per chunk of {@link DBConfig#IN_LIST_CHUNK_SIZE} missions.
+     *
+     * @param missionIds The IDs of the missions
+     * @return The Loadout of every requested mission by ID, in request order;
+     *         missions without a configuration get an empty Loadout
+     */
+    public Map<Integer, Loadout> getByMissionIds(Collection<Integer> missionIds) {
+        List<Integer> ids = new ArrayList<>(new LinkedHashSet<>(missionIds));
+        Map<Integer, Loadout> loadouts = new LinkedHashMap<>();
+        for (Integer id : ids) {
+            loadouts.put(id, new Loadout(id));
+        }
+        if (ids.isEmpty()) {
+            return loadouts;
+        }
+
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        ResultSet rs = null;
+
+        try {
+            conn = DBUtil.getConnection();
+
+            for (int from = 0; from < ids.size(); from += DBConfig.IN_LIST_CHUNK_SIZE) {
+                List<Integer> chunk = ids.subList(from, Math.min(from + DBConfig.IN_LIST_CHUNK_SIZE, ids.size()));
+                // SQL query to retrieve weapons and launchers of the missions in one round-trip
+                stmt = conn.prepareStatement(selectByMissionIdsSql(chunk.size()));
+                for (int i = 0; i < chunk.size(); i++) {
+                    stmt.setInt(i + 1, chunk.get(i));
+                    stmt.setInt(chunk.size() + i + 1, chunk.get(i));
+                }
+
+                rs = stmt.executeQuery();
+
+                while (rs.next()) {
+                    Loadout loadout = loadouts.get(rs.getInt(1));
+                    String type = rs.getString(2);
+                    String position = rs.getString(3);
+
+                    // A launcher wins a position that also holds a weapon, as it did on the screens
+                    if (Loadout.TYPE_LAUNCHER.equals(type) || !loadout.getPositions().containsKey(position)) {
+                        loadout.put(position, type, rs.getString(4), rs.getString(5));
+                    }
+                }
+
+                DBUtil.closeResources(null, stmt, rs);
+                stmt = null;
+                rs = null;
+            }
+        } catch (SQLException e) {
+            System.err.println("Error retrieving mission loadouts: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            DBUtil.closeResources(conn, stmt, rs);
+        }
+
+        return loadouts;
+    }
+
+    /**
+     * Builds the query that reads the weapons and launchers of some missions.
+     *
+     * @param missionCount The number of mission IDs, bound once for each table
+     * @return The SELECT statement
+     */
+    static String selectByMissionIdsSql(int missionCount) {
+        String placeholders = String.join(", ", Collections.nCopies(missionCount, "?"));
+        return "SELECT mission_id, '" + Loadout.TYPE_WEAPON + "' AS type, position, weapon_id AS item_id, serial_number " +
+                "FROM historical_load WHERE mission_id IN (" + placeholders + ") " +
+                "UNION ALL " +
+                "SELECT mission_id, '" + Loadout.TYPE_LAUNCHER + "' AS type, position, launcher_id AS item_id, serial_number " +
+                "FROM historical_launcher WHERE mission_id IN (" + placeholders + ")";
+    }
+
+    /**
+     * Saves the hardpoint configuration of a mission, writing only what changed.
+     * The stored configuration is read and compared position by position; removed,
+     * added and changed positions are written with one batch per kind of change, in one
+     * transaction together with the life status of the launchers involved.
+     * Saving an unchanged configuration writes nothing.
+     *
+     * @param missionId The ID of the mission
+     * @param positions The items by position code, as in {@link Loadout#getPositions()}
+     * @return true if the configuration is saved, false otherwise
+     */
+    public boolean save(int missionId, Map<String, Map<String, String>> positions) {
+        Connection conn = null;
+        boolean success = false;
+
+        try (UnitOfWork work = UnitOfWork.begin()) {
+            Set<String> launcherSerials = new HashSet<>();
+
+            try {
+                conn = DBUtil.getConnection();
+
+                // Lock the mission, so two workstations saving its configuration do not interleave
+                try (PreparedStatement stmt = conn.prepareStatement("SELECT ID FROM missione WHERE ID = ? FOR UPDATE")) {
+                    stmt.setInt(1, missionId);
+                    stmt.executeQuery().close();
+                }
+
+                Map<String, Map<String, String>> storedWeapons = new HashMap<>();
+                Map<String, Map<String, String>> storedLaunchers = new HashMap<>();
+                readStored(conn, missionId, storedWeapons, storedLaunchers);
+
+                Map<String, Map<String, String>> weapons = new HashMap<>();
+                Map<String, Map<String, String>> launchers = new HashMap<>();
+                for (Map.Entry<String, Map<String, String>> entry : positions.entrySet()) {
+                    String type = entry.getValue().get(Loadout.KEY_TYPE);
+                    if (Loadout.TYPE_WEAPON.equals(type)) {
+                        weapons.put(entry.getKey(), entry.getValue());
+                    } else if (Loadout.TYPE_LAUNCHER.equals(type)) {
+                        launchers.put(entry.getKey(), entry.getValue());
+                    }
+                }
+
+                writeChanges(conn, missionId, "historical_load", "weapon_id", storedWeapons, weapons, null);
+                writeChanges(conn, missionId, "historical_launcher", "launcher_id", storedLaunchers, launchers,
+                        launcherSerials);
+            } finally {
+                // Returned to the unit of work, which releases it
+                DBUtil.closeResources(conn, null, null);
+            }
+
+            // Keep the materialized launcher life status in step with the loadout history
+            success = launcherDAO.refreshLifeStatus(launcherSerials);
+            if (success) {
+                work.commit();
+            }
+        } catch (SQLException e) {
+            System.err.println("Error saving mission loadout: " + e.getMessage());
+            e.printStackTrace();
+            success = false;
+        }
+
+        return success;
+    }
+
+    /**
+     * Reads the stored weapons and launchers of a mission, keyed by position.
+     */
+    private void readStored(Connection conn, int missionId, Map<String, Map<String, String>> weapons,
+                            Map<String, Map<String, String>> launchers) throws SQLException {
+        String sql = "SELECT '" + Loadout.TYPE_WEAPON + "' AS type, position, weapon_id AS item_id, serial_number " +
+                "FROM historical_load WHERE mission_id = ? " +
+                "UNION ALL " +
+                "SELECT '" + Loadout.TYPE_LAUNCHER + "' AS type, position, launcher_id AS item_id, serial_number " +
+                "FROM historical_launcher WHERE mission_id = ?";
+
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, missionId);
+            stmt.setInt(2, missionId);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    Map<String, String> item = new HashMap<>();
+                    item.put(Loadout.KEY_ID, rs.getString(3));
+                    item.put(Loadout.KEY_SERIAL_NUMBER, rs.getString(4));
+                    (Loadout.TYPE_WEAPON.equals(rs.getString(1)) ? weapons : launchers).put(rs.getString(2), item);
+                }
+            }
+        }
+    }
+
+    /**
+     * Brings one loadout table in line with the wanted items, with one batched statement
+     * each for removed, added and changed positions.
+     *
+     * @param serials Collects the serial numbers of the items removed, added or changed; may be null
+     */
+    private void writeChanges(Connection conn, int missionId, String table, String idColumn,
+                                 Map<String, Map<String, String>> stored, Map<String, Map<String, String>> wanted,
+                                 Set<String> serials) throws SQLException {
+        List<String> removed = new ArrayList<>();
+        List<String> added = new ArrayList<>();
+        List<String> changed = new ArrayList<>();
+
+        for (Map.Entry<String, Map<String, String>> entry : stored.entrySet()) {
+            Map<String, String> item = wanted.get(entry.getKey());
+            if (item == null) {
+                removed.add(entry.getKey());
+            } else if (!Objects.equals(item.get(Loadout.KEY_ID), entry.getValue().get(Loadout.KEY_ID))
+                    || !Objects.equals(item.get(Loadout.KEY_SERIAL_NUMBER), entry.getValue().get(Loadout.KEY_SERIAL_NUMBER))) {
+                changed.add(entry.getKey());
+            }
+        }
+        for (String position : wanted.keySet()) {
+            if (!stored.containsKey(position)) {
+                added.add(position);
+            }
+        }
+
+        if (serials != null) {
+            for (String position : removed) {
+                serials.add(stored.get(position).get(Loadout.KEY_SERIAL_NUMBER));
+            }
+            for (String position : changed) {
+                serials.add(stored.get(position).get(Loadout.KEY_SERIAL_NUMBER));
+                serials.add(wanted.get(position).get(Loadout.KEY_SERIAL_NUMBER));
+            }
+            for (String position : added) {
+                serials.add(wanted.get(position).get(Loadout.KEY_SERIAL_NUMBER));
+            }
+        }
+
+        if (!removed.isEmpty()) {
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    "DELETE FROM " + table + " WHERE mission_id = ? AND position = ?")) {
+                for (String position : removed) {
+                    stmt.setInt(1, missionId);
+                    stmt.setString(2, position);
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+            }
+        }
+
+        if (!changed.isEmpty()) {
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    "UPDATE " + table + " SET " + idColumn + " = ?, serial_number = ? WHERE mission_id = ? AND position = ?")) {
+                for (String position : changed) {
+                    Map<String, String> item = wanted.get(position);
+                    stmt.setString(1, item.get(Loadout.KEY_ID));
+                    stmt.setString(2, item.get(Loadout.KEY_SERIAL_NUMBER));
+                    stmt.setInt(3, missionId);
+                    stmt.setString(4, position);
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+            }
+        }
+
+        if (!added.isEmpty()) {
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    "INSERT INTO " + table + " (mission_id, position, " + idColumn + ", serial_number) VALUES (?, ?, ?, ?)")) {
+                for (String position : added) {
+                    Map<String, String> item = wanted.get(position);
+                    stmt.setInt(1, missionId);
+                    stmt.setString(2, position);
+                    stmt.setString(3, item.get(Loadout.KEY_ID));
+                    stmt.setString(4, item.get(Loadout.KEY_SERIAL_NUMBER));
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+            }
+        }
+    }
+}
@@ -0,0 +1,809 @@
+package com.aircraft.dao;
+
+import com.aircraft.config.DBConfig;
+import com.aircraft.db.StreamingQuery;
+import com.aircraft.db.UnitOfWork;
+import com.aircraft.model.Loadout;
+import com.aircraft.model.Mission;
+import com.aircraft.model.MissionPage;
+import com.aircraft.model.MissionRowMapper;
+import com.aircraft.util.DBUtil;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Data Access Object for Mission-related database operations.
+ * Provides methods for CRUD operations on missions.
+ */
+public class MissionDAO {
+
+    // Query text shared with WarmUp and the query plan test, which must run exactly these statements
+    static final String SELECT_ALL = "SELECT " + MissionRowMapper.COLUMNS + " FROM missione ORDER BY DataMissione DESC";
+    static final String SELECT_BY_FLIGHT_NUMBER = "SELECT " + MissionRowMapper.COLUMNS +
+            " FROM missione WHERE MatricolaVelivolo = ? AND NumeroVolo = ?";
+    static final String SELECT_BY_AIRCRAFT = "SELECT " + MissionRowMapper.COLUMNS +
+            " FROM missione WHERE MatricolaVelivolo = ? ORDER BY DataMissione DESC";
+    static final String SELECT_WITHOUT_RECORDED_DATA = "SELECT " + MissionRowMapper.COLUMNS +
+            " FROM missione WHERE MatricolaVelivolo = ? AND DatiRegistrati = 0";
+    static final String SELECT_BY_DATE_RANGE = "SELECT " + MissionRowMapper.COLUMNS +
+            " FROM missione WHERE DataMissione BETWEEN ? AND ? ORDER BY DataMissione DESC";
+    static final String SELECT_BY_AIRCRAFT_AND_DATE_RANGE = "SELECT " + MissionRowMapper.COLUMNS +
+            " FROM missione WHERE MatricolaVelivolo = ? AND DataMissione BETWEEN ? AND ? ORDER BY DataMissione DESC";
+
+    // Filters of the paginated queries (see pageSql)
+    static final String PAGE_FILTER_NONE = "";
+    static final String PAGE_FILTER_AIRCRAFT = "MatricolaVelivolo = ?";
+    static final String PAGE_FILTER_DATE_RANGE = "DataMissione BETWEEN ? AND ?";
+
+    private final LauncherDAO launcherDAO = new LauncherDAO();
+    private final LoadoutDAO loadoutDAO = new LoadoutDAO();
+
+    /**
+     * Inserts a new mission into the database.
+     * Its recorded data state is set in the same transaction, for the rare flight whose
+     * recorded data was saved before the mission.
+     *
+     * @param mission The Mission object to insert
+     * @return true if insertion was successful, false otherwise
+     */
+    public boolean insert(Mission mission) {
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        ResultSet generatedKeys = null;
+        boolean success = false;
+
+        try (UnitOfWork work = UnitOfWork.begin()) {
+            try {
+                conn = DBUtil.getConnection();
+
+                // SQL query to insert a new mission
+                String sql = "INSERT INTO missione (" + MissionRowMapper.INSERT_COLUMNS + ") VALUES (" +
+                        MissionRowMapper.INSERT_PARAMETERS + ")";
+                stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+                MissionRowMapper.bindInsert(stmt, mission, 1);
+
+                int rowsAffected = stmt.executeUpdate();
+
+                if (rowsAffected > 0) {
+                    // Get the generated ID
+                    generatedKeys = stmt.getGeneratedKeys();
+                    if (generatedKeys.next()) {
+                        mission.setId(generatedKeys.getInt(1));
+                        success = true;
+                    }
+                }
+
+                if (success) {
+                    updateRecordedDataState(conn, mission.getMatricolaVelivolo(), List.of(mission.getNumeroVolo()));
+                    work.commit();
+                }
+            } finally {
+                // Statements go back to the connection before the unit of work releases it
+                DBUtil.closeResources(conn, stmt, generatedKeys);
+            }
+        } catch (SQLException e) {
+            System.err.println("Error inserting mission: " + e.getMessage());
+            e.printStackTrace();
+            success = false;
+        }
+
+        if (!success) {
+            // The insert was rolled back, so a generated ID would not exist
+            mission.setId(0);
+        }
+
+        return success;
+    }
+
+    /**
+     * Creates a mission together with its hardpoint configuration in one transaction.
+     * The new ID comes from the generated key of the insert, so it is correct even when
+     * several workstations create missions at the same time.
+     *
+     * @param mission The Mission object to insert; its ID is set on success and reset to 0 on failure
+     * @param positions The items by position code, as in {@link Loadout#getPositions()}; may be empty
+     * @return The generated mission ID, or 0 if nothing was saved
+     */
+    public int create(Mission mission, Map<String, Map<String, String>> positions) {
+        int id = 0;
+
+        try (UnitOfWork work = UnitOfWork.begin()) {
+            if (insert(mission) && loadoutDAO.save(mission.getId(), positions)) {
+                work.commit();
+                id = mission.getId();
+            }
+        } catch (SQLException e) {
+            System.err.println("Error creating mission: " + e.getMessage());
+            e.printStackTrace();
+        }
+
+        if (id == 0) {
+            // The insert was rolled back with the loadout, so its generated ID does not exist
+            mission.setId(0);
+        }
+
+        return id;
+    }
+
+    /**
+     * Updates an existing mission in the database.
+     * Its recorded data state and the life status of the launchers flown on it are
+     * recomputed in the same transaction, as the aircraft, flight number or flight
+     * times may have changed.
+     *
+     * @param mission The Mission object to update
+     * @return true if update was successful, false otherwise
+     */
+    public boolean update(Mission mission) {
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        ResultSet rs = null;
+        boolean success = false;
+
+        try (UnitOfWork work = UnitOfWork.begin()) {
+            Set<String> launcherSerials = new HashSet<>();
+
+            try {
+                conn = DBUtil.getConnection();
+
+                // SQL query to update an existing mission
+                String sql = "UPDATE missione SET " + MissionRowMapper.UPDATE_ASSIGNMENTS +
+                        " WHERE " + MissionRowMapper.KEY_CONDITION;
+                stmt = conn.prepareStatement(sql);
+                MissionRowMapper.bindUpdate(stmt, mission, 1);
+
+                int rowsAffected = stmt.executeUpdate();
+                success = rowsAffected > 0;
+
+                if (success) {
+                    updateRecordedDataState(conn, mission.getMatricolaVelivolo(), List.of(mission.getNumeroVolo()));
+
+                    // The hours and missions counted for these launchers may have changed
+                    stmt.close();
+                    stmt = conn.prepareStatement("SELECT DISTINCT serial_number FROM historical_launcher WHERE mission_id = ?");
+                    stmt.setInt(1, mission.getId());
+                    rs = stmt.executeQuery();
+                    while (rs.next()) {
+                        launcherSerials.add(rs.getString(1));
+                    }
+                }
+            } finally {
+                // Statements go back to the connection before the unit of work releases it
+                DBUtil.closeResources(conn, stmt, rs);
+            }
+
+            if (success) {
+                success = launcherDAO.refreshLifeStatus(launcherSerials);
+            }
+            if (success) {
+                work.commit();
+            }
+        } catch (SQLException e) {
+            System.err.println("Error updating mission: " + e.getMessage());
+            e.printStackTrace();
+            success = false;
+        }
+
+        return success;
+    }
+
+    /**
+     * Recomputes whether the missions of a flight have recorded data, after recorded data
+     * of the flight is inserted, updated or deleted. Joins the caller's unit of work.
+     *
+     * @param matricolaVelivolo The aircraft serial number
+     * @param numeroVolo The flight number
+     * @return true if the state was recomputed, false otherwise
+     */
+    boolean refreshRecordedDataState(String matricolaVelivolo, int numeroVolo) {
+        return refreshRecordedDataState(matricolaVelivolo, List.of(numeroVolo));
+    }
+
+    /**
+     * Recomputes whether the missions of several flights of one aircraft have recorded data,
+     * after recorded data is saved in bulk. Joins the caller's unit of work.
+     *
+     * @param matricolaVelivolo The aircraft serial number
+     * @param numeriVolo The flight numbers
+     * @return true if the state was recomputed, false otherwise
+     */
+    boolean refreshRecordedDataState(String matricolaVelivolo, Collection<Integer> numeriVolo) {
+        Connection conn = null;
+        boolean success = false;
+
+        try {
+            conn = DBUtil.getConnection();
+            updateRecordedDataState(conn, matricolaVelivolo, numeriVolo);
+            success = true;
+        } catch (SQLException e) {
+            System.err.println("Error refreshing mission recorded data state: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            DBUtil.closeResources(conn, null, null);
+        }
+
+        return success;
+    }
+
+    /**
+     * Sets the DatiRegistrati flag of the missions of the given flights from dati_registrati.
+     */
+    private void updateRecordedDataState(Connection conn, String matricolaVelivolo, Collection<Integer> numeriVolo)
+            throws SQLException {
+        List<Integer> flights = new ArrayList<>(new LinkedHashSet<>(numeriVolo));
+        if (flights.isEmpty()) {
+            return;
+        }
+
+        try (PreparedStatement stmt = conn.prepareStatement(recordedDataStateSql(flights.size()))) {
+            stmt.setString(1, matricolaVelivolo);
+            for (int i = 0; i < flights.size(); i++) {
+                stmt.setInt(i + 2, flights.get(i));
+            }
+            stmt.executeUpdate();
+        }
+    }
+
+    /**
+     * Builds the statement that recomputes DatiRegistrati for the missions of some flights of one aircraft.
+     *
+     * @param flightCount The number of flight numbers bound after the aircraft serial number
+     * @return The UPDATE statement
+     */
+    static String recordedDataStateSql(int flightCount) {
+        return "UPDATE missione m SET m.DatiRegistrati = EXISTS (" +
+                "SELECT 1 FROM dati_registrati dr " +
+                "WHERE dr.MatricolaVelivolo = m.MatricolaVelivolo AND dr.NumeroVolo = m.NumeroVolo) " +
+                "WHERE m.MatricolaVelivolo = ? AND m.NumeroVolo IN (" +
+                String.join(", ", Collections.nCopies(flightCount, "?")) + ")";
+    }
+
+    /**
+     * Deletes a mission from the database by its ID.
+     * Its loadout and automatic position rows are removed by the database through
+     * ON DELETE CASCADE, and the life status of the launchers flown on it is refreshed.
+     *
+     * @param id The ID of the mission to delete
+     * @return true if deletion was successful, false otherwise
+     */
+    public boolean delete(int id) {
+        return deleteAll(List.of(id)) > 0;
+    }
+
+    /**
+     * Deletes many missions at once, with one DELETE per chunk of
+     * {@link DBConfig#IN_LIST_CHUNK_SIZE} IDs in a single transaction.
+     * Rows that belong to the missions are removed through ON DELETE CASCADE,
+     * and the life status of the launchers flown on them is refreshed in the same transaction.
+     *
+     * @param ids The IDs of the missions to delete
+     * @return The number of missions deleted, or 0 if the deletion failed and was rolled back
+     */
+    public int deleteAll(Collection<Integer> ids) {
+        List<Integer> missionIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        if (missionIds.isEmpty()) {
+            return 0;
+        }
+
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        ResultSet rs = null;
+        int deleted = 0;
+
+        // The deletes and the launcher life status they change are committed together
+        try (UnitOfWork work = UnitOfWork.begin()) {
+            Set<String> launcherSerials = new HashSet<>();
+
+            try {
+                conn = DBUtil.getConnection();
+
+                for (int from = 0; from < missionIds.size(); from += DBConfig.IN_LIST_CHUNK_SIZE) {
+                    List<Integer> chunk = missionIds.subList(from, Math.min(from + DBConfig.IN_LIST_CHUNK_SIZE, missionIds.size()));
+                    String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+
+                    // Remember the launchers flown on the missions, whose life status changes with them
+                    String sqlSerials = "SELECT DISTINCT serial_number FROM historical_launcher WHERE mission_id IN (" + placeholders + ")";
+                    stmt = conn.prepareStatement(sqlSerials);
+                    for (int i = 0; i < chunk.size(); i++) {
+                        stmt.setInt(i + 1, chunk.get(i));
+                    }
+                    rs = stmt.executeQuery();
+                    while (rs.next()) {
+                        launcherSerials.add(rs.getString(1));
+                    }
+                    DBUtil.closeResources(null, stmt, rs);
+                    rs = null;
+
+                    // Delete the missions; dependent rows cascade
+                    String sqlMission = "DELETE FROM missione WHERE ID IN (" + placeholders + ")";
+                    stmt = conn.prepareStatement(sqlMission);
+                    for (int i = 0; i < chunk.size(); i++) {
+                        stmt.setInt(i + 1, chunk.get(i));
+                    }
+                    deleted += stmt.executeUpdate();
+                    stmt.close();
+                    stmt = null;
+                }
+            } finally {
+                // Statements go back to the connection before the unit of work releases it
+                DBUtil.closeResources(conn, stmt, rs);
+            }
+
+            if (deleted > 0 && !launcherDAO.refreshLifeStatus(launcherSerials)) {
+                // Rolled back when the unit of work closes
+                return 0;
+            }
+
+            work.commit();
+        } catch (SQLException e) {
+            System.err.println("Error deleting missions: " + e.getMessage());
+            e.printStackTrace();
+            deleted = 0;
+        }
+
+        return deleted;
+    }
+
+    /**
+     * Retrieves a mission by its ID.
+     *
+     * @param id The ID of the mission to retrieve
+     * @return The Mission object if found, null otherwise
+     */
+    public Mission getById(int id) {
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        ResultSet rs = null;
+        Mission mission = null;
+
+        try {
+            conn = DBUtil.getConnection();
+
+            // SQL query to find a mission by ID
+            String sql = "SELECT " + MissionRowMapper.COLUMNS + " FROM missione WHERE ID = ?";
+            stmt = conn.prepareStatement(sql);
+            stmt.setInt(1, id);
+
+            rs = stmt.executeQuery();
+
+            if (rs.next()) {
+                // Mission found, create and return Mission object
+                mission = MissionRowMapper.map(rs);
+            }
+        } catch (SQLException e) {
+            System.err.println("Error retrieving mission: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            DBUtil.closeResources(conn, stmt, rs);
+        }
+
+        return mission;
+    }
+
+    /**
+     * Retrieves a mission by flight number and aircraft.
+     *
+     * @param matricolaVelivolo The aircraft serial number
+     * @param numeroVolo The flight number
+     * @return The Mission object if found, null otherwise
+     */
+    public Mission getByFlightNumber(String matricolaVelivolo, int numeroVolo) {
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        ResultSet rs = null;
+        Mission mission = null;
+
+        try {
+            conn = DBUtil.getConnection();
+
+            // SQL query to find a mission by aircraft and flight number
+            String sql = SELECT_BY_FLIGHT_NUMBER;
+            stmt = conn.prepareStatement(sql);
+            stmt.setString(1, matricolaVelivolo);
+            stmt.setInt(2, numeroVolo);
+
+            rs = stmt.executeQuery();
+
+            if (rs.next()) {
+                // Mission found, create and return Mission object
+                mission = MissionRowMapper.map(rs);
+            }
+        } catch (SQLException e) {
+            System.err.println("Error retrieving mission: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            DBUtil.closeResources(conn, stmt, rs);
+        }
+
+        return mission;
+    }
+
+    /**
+     * Retrieves all missions from the database.
+     *
+     * @return A List of all Mission objects
+     */
+    public List<Mission> getAll() {
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        ResultSet rs = null;
+        List<Mission> missions = new ArrayList<>();
+
+        try {
+            conn = DBUtil.getReadConnection();
+
+            // SQL query to retrieve all missions
+            String sql = SELECT_ALL;
+            stmt = conn.prepareStatement(sql);
+
+            rs = stmt.executeQuery();
+
+            while (rs.next()) {
+                // For each row, create a Mission object and add to list
+                Mission mission = MissionRowMapper.map(rs);
+                missions.add(mission);
+            }
+        } catch (SQLException e) {
+            System.err.println("Error retrieving missions: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            DBUtil.closeResources(conn, stmt, rs);
+        }
+
+        return missions;
+    }
+
+    /**
+     * Streams all missions from the database, newest first, without loading them into memory.
+     * Rows are read from a streaming cursor as the stream is consumed, so exports and
+     * analytics over the whole table run in constant memory.
+     * The stream holds a connection until it is closed; use it with try-with-resources.
+     *
+     * @return A lazily-read stream of all Mission objects
+     * @throws IllegalStateException If the missions cannot be read
+     */
+    public Stream<Mission> streamAll() {
+        try {
+            // SQL query to stream all missions
+            String sql = SELECT_ALL;
+            return StreamingQuery.stream(DBUtil.getReadConnection(), sql, MissionRowMapper::map);
+        } catch (SQLException e) {
+            System.err.println("Error streaming missions: " + e.getMessage());
+            throw new IllegalStateException("Error streaming missions: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Retrieves all missions for a specific aircraft.
+     *
+     * @param matricolaVelivolo The aircraft serial number
+     * @return A List of Mission objects for the specified aircraft
+     */
+    public List<Mission> getMissionsByAircraft(String matricolaVelivolo) {
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        ResultSet rs = null;
+        List<Mission> missions = new ArrayList<>();
+
+        try {
+            conn = DBUtil.getReadConnection();
+
+            // SQL query to retrieve missions for a specific aircraft
+            String sql = SELECT_BY_AIRCRAFT;
+            stmt = conn.prepareStatement(sql);
+            stmt.setString(1, matricolaVelivolo);
+
+            rs = stmt.executeQuery();
+
+            while (rs.next()) {
+                // For each row, create a Mission object and add to list
+                Mission mission = MissionRowMapper.map(rs);
+                missions.add(mission);
+            }
+        } catch (SQLException e) {
+            System.err.println("Error retrieving missions for aircraft: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            DBUtil.closeResources(conn, stmt, rs);
+        }
+
+        return missions;
+    }
+
+    /**
+     * Retrieves the missions of an aircraft that have no recorded flight data yet.
+     * Reads the maintained DatiRegistrati flag through its (aircraft, flag) index.
+     *
+     * @param matricolaVelivolo The aircraft serial number
+     * @return A List of Mission objects still awaiting recorded data
+     */
+    public List<Mission> getMissionsWithoutRecordedData(String matricolaVelivolo) {
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        ResultSet rs = null;
+        List<Mission> missions = new ArrayList<>();
+
+        try {
+            conn = DBUtil.getConnection();
+
+            // SQL query to retrieve missions that don't have recorded data yet
+            String sql = SELECT_WITHOUT_RECORDED_DATA;
+            stmt = conn.prepareStatement(sql);
+            stmt.setString(1, matricolaVelivolo);
+
+            rs = stmt.executeQuery();
+
+            while (rs.next()) {
+                // For each row, create a Mission object and add to list
+                Mission mission = MissionRowMapper.map(rs);
+                missions.add(mission);
+            }
+        } catch (SQLException e) {
+            System.err.println("Error retrieving missions without recorded data: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            DBUtil.closeResources(conn, stmt, rs);
+        }
+
+        return missions;
+    }
+
+    /**
+     * Retrieves the latest missions, ordered by ID descending.
+     *
+     * @param limit The maximum number of missions to retrieve
+     * @return A List of the most recent Mission objects
+     */
+    public List<Mission> getLatestMissions(int limit) {
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        ResultSet rs = null;
+        List<Mission> missions = new ArrayList<>();
+
+        try {
+            conn = DBUtil.getConnection();
+
+            // SQL query to retrieve the latest missions
+            String sql = "SELECT " + MissionRowMapper.COLUMNS + " FROM missione ORDER BY ID DESC LIMIT ?";
+            stmt = conn.prepareStatement(sql);
+            stmt.setInt(1, limit);
+
+            rs = stmt.executeQuery();
+
+            while (rs.next()) {
+                // For each row, create a Mission object and add to list
+                Mission mission = MissionRowMapper.map(rs);
+                missions.add(mission);
+            }
+        } catch (SQLException e) {
+            System.err.println("Error retrieving latest missions: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            DBUtil.closeResources(conn, stmt, rs);
+        }
+
+        return missions;
+    }
+
+    /**
+     * Retrieves missions by date range.
+     *
+     * @param fromDate The start date
+     * @param toDate The end date
+     * @return A List of Mission objects within the specified date range
+     */
+    public List<Mission> getMissionsByDateRange(Date fromDate, Date toDate) {
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        ResultSet rs = null;
+        List<Mission> missions = new ArrayList<>();
+
+        try {
+            conn = DBUtil.getReadConnection();
+
+            // SQL query to retrieve missions within a date range
+            String sql = SELECT_BY_DATE_RANGE;
+            stmt = conn.prepareStatement(sql);
+            stmt.setDate(1, fromDate);
+            stmt.setDate(2, toDate);
+
+            rs = stmt.executeQuery();
+
+            while (rs.next()) {
+                // For each row, create a Mission object and add to list
+                Mission mission = MissionRowMapper.map(rs);
+                missions.add(mission);
+            }
+        } catch (SQLException e) {
+            System.err.println("Error retrieving missions by date range: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            DBUtil.closeResources(conn, stmt, rs);
+        }
+
+        return missions;
+    }
+
+    /**
+     * Retrieves missions by aircraft and date range.
+     *
+     * @param matricolaVelivolo The aircraft serial number
+     * @param fromDate The start date
+     * @param toDate The end date
+     * @return A List of Mission objects for the specified aircraft within the date range
+     */
+    public List<Mission> getMissionsByAircraftAndDateRange(String matricolaVelivolo, Date fromDate, Date toDate) {
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        ResultSet rs = null;
+        List<Mission> missions = new ArrayList<>();
+
+        try {
+            conn = DBUtil.getReadConnection();
+
+            // SQL query to retrieve missions for a specific aircraft within a date range
+            String sql = SELECT_BY_AIRCRAFT_AND_DATE_RANGE;
+            stmt = conn.prepareStatement(sql);
+            stmt.setString(1, matricolaVelivolo);
+            stmt.setDate(2, fromDate);
+            stmt.setDate(3, toDate);
+
+            rs = stmt.executeQuery();
+
+            while (rs.next()) {
+                // For each row, create a Mission object and add to list
+                Mission mission = MissionRowMapper.map(rs);
+                missions.add(mission);
+            }
+        } catch (SQLException e) {
+            System.err.println("Error retrieving missions by aircraft and date range: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            DBUtil.closeResources(conn, stmt, rs);
+        }
+
+        return missions;
+    }
+
+    /**
+     * Retrieves one page of all missions, newest first.
+     * Pages are found by seeking past the last mission of the previous page on
+     * (DataMissione, ID) rather than with OFFSET, so a deep page costs the same as the first.
+     *
+     * @param cursor The cursor returned with the previous page, or null for the first page
+     * @param pageSize The maximum number of missions on the page
+     * @return The page of missions, with the cursor of the following page
+     * @throws IllegalArgumentException If the cursor is not valid
+     */
+    public MissionPage getPage(String cursor, int pageSize) {
+        return getPage(PAGE_FILTER_NONE, stmt -> 0, cursor, pageSize, "missions");
+    }
+
+    /**
+     * Retrieves one page of the missions of a specific aircraft, newest first.
+     *
+     * @param matricolaVelivolo The aircraft serial number
+     * @param cursor The cursor returned with the previous page, or null for the first page
+     * @param pageSize The maximum number of missions on the page
+     * @return The page of missions, with the cursor of the following page
+     * @throws IllegalArgumentException If the cursor is not valid
+     */
+    public MissionPage getPageByAircraft(String matricolaVelivolo, String cursor, int pageSize) {
+        return getPage(PAGE_FILTER_AIRCRAFT, stmt -> {
+            stmt.setString(1, matricolaVelivolo);
+            return 1;
+        }, cursor, pageSize, "missions for aircraft");
+    }
+
+    /**
+     * Retrieves one page of the missions within a date range, newest first.
+     *
+     * @param fromDate The start date
+     * @param toDate The end date
+     * @param cursor The cursor returned with the previous page, or null for the first page
+     * @param pageSize The maximum number of missions on the page
+     * @return The page of missions, with the cursor of the following page
+     * @throws IllegalArgumentException If the cursor is not valid
+     */
+    public MissionPage getPageByDateRange(Date fromDate, Date toDate, String cursor, int pageSize) {
+        return getPage(PAGE_FILTER_DATE_RANGE, stmt -> {
+            stmt.setDate(1, fromDate);
+            stmt.setDate(2, toDate);
+            return 2;
+        }, cursor, pageSize, "missions by date range");
+    }
+
+    /**
+     * Sets the filter parameters of a page query.
+     */
+    @FunctionalInterface
+    private interface FilterBinder {
+        /**
+         * @return The number of parameters set, starting at index 1
+         */
+        int bind(PreparedStatement stmt) throws SQLException;
+    }
+
+    /**
+     * Builds a keyset-paginated mission query: the filter parameters, then the cursor's
+     * DataMissione twice and ID if it seeks, then the LIMIT.
+     *
+     * @param filter One of the PAGE_FILTER_ conditions
+     * @param seek Whether the query continues after a cursor
+     * @return The SELECT statement
+     */
+    static String pageSql(String filter, boolean seek) {
+        // Seek past the last row of the previous page; served by the DataMissione index,
+        // whose entries already end with the primary key
+        StringBuilder sql = new StringBuilder("SELECT " + MissionRowMapper.COLUMNS + " FROM missione");
+        String seekCondition = seek ? "(DataMissione < ? OR (DataMissione = ? AND ID < ?))" : "";
+        if (!filter.isEmpty() || seek) {
+            sql.append(" WHERE ").append(filter);
+            if (!filter.isEmpty() && seek) {
+                sql.append(" AND ");
+            }
+            sql.append(seekCondition);
+        }
+        sql.append(" ORDER BY DataMissione DESC, ID DESC LIMIT ?");
+        return sql.toString();
+    }
+
+    /**
+     * Runs a keyset-paginated mission query.
+     * One row more than the page size is read to find out whether another page follows.
+     */
+    private MissionPage getPage(String filter, FilterBinder binder, String cursor, int pageSize, String description) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive: " + pageSize);
+        }
+        Date cursorDate = cursor == null ? null : MissionPage.cursorDate(cursor);
+        int cursorId = cursor == null ? 0 : MissionPage.cursorId(cursor);
+
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        ResultSet rs = null;
+        List<Mission> missions = new ArrayList<>();
+        boolean hasNext = false;
+
+        try {
+            conn = DBUtil.getReadConnection();
+
+            stmt = conn.prepareStatement(pageSql(filter, cursor != null));
+
+            int index = binder.bind(stmt) + 1;
+            if (cursor != null) {
+                stmt.setDate(index++, cursorDate);
+                stmt.setDate(index++, cursorDate);
+                stmt.setInt(index++, cursorId);
+            }
+            stmt.setInt(index, pageSize + 1);
+
+            rs = stmt.executeQuery();
+
+            while (rs.next()) {
+                if (missions.size() == pageSize) {
+                    hasNext = true;
+                    break;
+                }
+                missions.add(MissionRowMapper.map(rs));
+            }
+        } catch (SQLException e) {
+            System.err.println("Error retrieving page of " + description + ": " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            DBUtil.closeResources(conn, stmt, rs);
+        }
+
+        String nextCursor = hasNext ? MissionPage.cursorAfter(missions.get(missions.size() - 1)) : null;
+        return new MissionPage(missions, nextCursor);
+    }
+}
\ No newline at end of file
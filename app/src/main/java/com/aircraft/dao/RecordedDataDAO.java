@@ -0,0 +1,409 @@
+package com.aircraft.dao;
+
+import com.aircraft.config.DBConfig;
+import com.aircraft.db.StreamingQuery;
+import com.aircraft.db.UnitOfWork;
+import com.aircraft.model.RecordedData;
+import com.aircraft.model.RecordedDataRowMapper;
+import com.aircraft.util.DBUtil;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Data Access Object for RecordedData-related database operations.
+ * Provides methods for CRUD operations on flight recorded data.
+ */
+public class RecordedDataDAO {
+
+    // Query text shared with the query plan test
+    static final String SELECT_BY_FLIGHT_NUMBER = "SELECT " + RecordedDataRowMapper.COLUMNS +
+            " FROM dati_registrati WHERE MatricolaVelivolo = ? AND NumeroVolo = ?";
+
+    private final LauncherDAO launcherDAO = new LauncherDAO();
+    private final MissionDAO missionDAO = new MissionDAO();
+
+    /**
+     * Inserts new recorded data into the database.
+     * The life status of the launchers flown on the mission and the mission's recorded data
+     * state are refreshed in the same transaction.
+     *
+     * @param recordedData The RecordedData object to insert
+     * @return true if insertion was successful, false otherwise
+     */
+    public boolean insert(RecordedData recordedData) {
+        try {
+            // The row and the launcher life status and mission state it changes are committed together
+            insertChunk(List.of(recordedData));
+            return true;
+        } catch (SQLException e) {
+            System.err.println("Error inserting recorded data: " + e.getMessage());
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    /**
+     * Inserts many recorded data rows in batches of {@link DBConfig#INSERT_BATCH_SIZE}.
+     *
+     * @param recordedDataList The RecordedData objects to insert; their IDs are set on success
+     * @return The generated ID of every row in input order and the error of every row that failed
+     * @see #insertAll(List, int)
+     */
+    public BatchInsertResult insertAll(List<RecordedData> recordedDataList) {
+        return insertAll(recordedDataList, DBConfig.INSERT_BATCH_SIZE);
+    }
+
+    /**
+     * Inserts many recorded data rows, e.g. when back-filling from paper logs or recorder dumps.
+     * Rows are sent in JDBC batches of the given size, which the driver rewrites into
+     * multi-row INSERTs, and each chunk is committed in one transaction together with
+     * the launcher life status and mission state of its flights.
+     * If a chunk fails it is rolled back and its rows are retried one at a time,
+     * so a bad row only costs itself. Call it outside a unit of work: a failed chunk
+     * would mark the enclosing one rollback-only.
+     *
+     * @param recordedDataList The RecordedData objects to insert; their IDs are set on success
+     * @param batchSize The number of rows per batch and per transaction
+     * @return The generated ID of every row in input order and the error of every row that failed
+     * @throws IllegalArgumentException If batchSize is less than 1
+     */
+    public BatchInsertResult insertAll(List<RecordedData> recordedDataList, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1: " + batchSize);
+        }
+
+        BatchInsertResult result = new BatchInsertResult(recordedDataList.size());
+
+        for (int from = 0; from < recordedDataList.size(); from += batchSize) {
+            int to = Math.min(from + batchSize, recordedDataList.size());
+            List<RecordedData> chunk = recordedDataList.subList(from, to);
+
+            try {
+                insertChunk(chunk);
+                for (int i = 0; i < chunk.size(); i++) {
+                    result.setGeneratedId(from + i, chunk.get(i).getId());
+                }
+            } catch (SQLException e) {
+                System.err.println("Error inserting recorded data batch, retrying row by row: " + e.getMessage());
+
+                // Find the rows that failed the chunk; the others are inserted on their own
+                for (int i = 0; i < chunk.size(); i++) {
+                    try {
+                        insertChunk(List.of(chunk.get(i)));
+                        result.setGeneratedId(from + i, chunk.get(i).getId());
+                    } catch (SQLException rowError) {
+                        System.err.println("Error inserting recorded data row " + (from + i) + ": " + rowError.getMessage());
+                        result.addFailure(from + i, rowError);
+                    }
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Inserts rows with one batch and commits them, with the state derived from them, in one transaction.
+     *
+     * @throws SQLException If any row or the derived state could not be written; nothing is committed
+     */
+    private void insertChunk(List<RecordedData> chunk) throws SQLException {
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        ResultSet generatedKeys = null;
+        int[] ids = new int[chunk.size()];
+
+        try (UnitOfWork work = UnitOfWork.begin()) {
+            try {
+                conn = DBUtil.getConnection();
+
+                String sql = "INSERT INTO dati_registrati (" + RecordedDataRowMapper.INSERT_COLUMNS + ") VALUES (" +
+                        RecordedDataRowMapper.INSERT_PARAMETERS + ")";
+                stmt = conn.prepareStatement(sql, PreparedStatement.RETURN_GENERATED_KEYS);
+                for (RecordedData recordedData : chunk) {
+                    RecordedDataRowMapper.bindInsert(stmt, recordedData, 1);
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+
+                // Keys come back in the order the rows were added to the batch
+                generatedKeys = stmt.getGeneratedKeys();
+                int count = 0;
+                while (count < ids.length && generatedKeys.next()) {
+                    ids[count++] = generatedKeys.getInt(1);
+                }
+                if (count < ids.length) {
+                    throw new SQLException("Expected " + ids.length + " generated keys, got " + count);
+                }
+            } finally {
+                // Statements go back to the connection before the unit of work releases it
+                DBUtil.closeResources(conn, stmt, generatedKeys);
+            }
+
+            // Refresh each aircraft's flights together rather than one flight at a time
+            Map<String, Set<Integer>> flightsByAircraft = new LinkedHashMap<>();
+            for (RecordedData recordedData : chunk) {
+                flightsByAircraft.computeIfAbsent(recordedData.getMatricolaVelivolo(), k -> new LinkedHashSet<>())
+                        .add(recordedData.getNumeroVolo());
+            }
+            for (Map.Entry<String, Set<Integer>> entry : flightsByAircraft.entrySet()) {
+                if (!launcherDAO.refreshLifeStatusForFlights(entry.getKey(), entry.getValue())
+                        || !missionDAO.refreshRecordedDataState(entry.getKey(), entry.getValue())) {
+                    throw new SQLException("Error refreshing the state of the flights of aircraft " + entry.getKey());
+                }
+            }
+
+            work.commit();
+        }
+
+        // IDs are only handed out once the rows are committed
+        for (int i = 0; i < chunk.size(); i++) {
+            chunk.get(i).setId(ids[i]);
+        }
+    }
+
+    /**
+     * Updates existing recorded data in the database.
+     * The launcher life status and mission recorded data state of the flight, and of the
+     * previous flight if the row moved to another one, are refreshed in the same transaction.
+     *
+     * @param recordedData The RecordedData object to update
+     * @return true if update was successful, false otherwise
+     */
+    public boolean update(RecordedData recordedData) {
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        boolean success = false;
+
+        try (UnitOfWork work = UnitOfWork.begin()) {
+            RecordedData previous = getById(recordedData.getId());
+
+            try {
+                conn = DBUtil.getConnection();
+
+                // SQL query to update existing recorded data
+                String sql = "UPDATE dati_registrati SET " + RecordedDataRowMapper.UPDATE_ASSIGNMENTS +
+                        " WHERE " + RecordedDataRowMapper.KEY_CONDITION;
+                stmt = conn.prepareStatement(sql);
+                RecordedDataRowMapper.bindUpdate(stmt, recordedData, 1);
+
+                int rowsAffected = stmt.executeUpdate();
+                success = rowsAffected > 0;
+            } finally {
+                DBUtil.closeResources(conn, stmt, null);
+            }
+
+            if (success) {
+                success = refreshFlight(recordedData.getMatricolaVelivolo(), recordedData.getNumeroVolo());
+            }
+            if (success && previous != null
+                    && (!Objects.equals(previous.getMatricolaVelivolo(), recordedData.getMatricolaVelivolo())
+                        || previous.getNumeroVolo() != recordedData.getNumeroVolo())) {
+                success = refreshFlight(previous.getMatricolaVelivolo(), previous.getNumeroVolo());
+            }
+            if (success) {
+                work.commit();
+            }
+        } catch (SQLException e) {
+            System.err.println("Error updating recorded data: " + e.getMessage());
+            e.printStackTrace();
+            success = false;
+        }
+
+        return success;
+    }
+
+    /**
+     * Deletes recorded data from the database by its ID.
+     * The launcher life status and mission recorded data state of its flight are
+     * refreshed in the same transaction.
+     *
+     * @param id The ID of the recorded data to delete
+     * @return true if deletion was successful, false otherwise
+     */
+    public boolean delete(int id) {
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        boolean success = false;
+
+        try (UnitOfWork work = UnitOfWork.begin()) {
+            RecordedData previous = getById(id);
+
+            try {
+                conn = DBUtil.getConnection();
+
+                // SQL query to delete recorded data
+                String sql = "DELETE FROM dati_registrati WHERE ID = ?";
+                stmt = conn.prepareStatement(sql);
+                stmt.setInt(1, id);
+
+                int rowsAffected = stmt.executeUpdate();
+                success = rowsAffected > 0;
+            } finally {
+                DBUtil.closeResources(conn, stmt, null);
+            }
+
+            if (success && previous != null) {
+                success = refreshFlight(previous.getMatricolaVelivolo(), previous.getNumeroVolo());
+            }
+            if (success) {
+                work.commit();
+            }
+        } catch (SQLException e) {
+            System.err.println("Error deleting recorded data: " + e.getMessage());
+            e.printStackTrace();
+            success = false;
+        }
+
+        return success;
+    }
+
+    /**
+     * Refreshes what is derived from the recorded data of a flight: the life status of
+     * the launchers flown on it and whether its missions still await recorded data.
+     */
+    private boolean refreshFlight(String matricolaVelivolo, int numeroVolo) {
+        return launcherDAO.refreshLifeStatusForFlight(matricolaVelivolo, numeroVolo)
+                && missionDAO.refreshRecordedDataState(matricolaVelivolo, numeroVolo);
+    }
+
+    /**
+     * Retrieves recorded data by its ID.
+     *
+     * @param id The ID of the recorded data to retrieve
+     * @return The RecordedData object if found, null otherwise
+     */
+    public RecordedData getById(int id) {
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        ResultSet rs = null;
+        RecordedData recordedData = null;
+
+        try {
+            conn = DBUtil.getConnection();
+
+            // SQL query to find recorded data by ID
+            String sql = "SELECT " + RecordedDataRowMapper.COLUMNS + " FROM dati_registrati WHERE ID = ?";
+            stmt = conn.prepareStatement(sql);
+            stmt.setInt(1, id);
+
+            rs = stmt.executeQuery();
+
+            if (rs.next()) {
+                // Recorded data found, create and return RecordedData object
+                recordedData = RecordedDataRowMapper.map(rs);
+            }
+        } catch (SQLException e) {
+            System.err.println("Error retrieving recorded data: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            DBUtil.closeResources(conn, stmt, rs);
+        }
+
+        return recordedData;
+    }
+
+    /**
+     * Retrieves recorded data by aircraft and flight number.
+     *
+     * @param matricolaVelivolo The aircraft serial number
+     * @param numeroVolo The flight number
+     * @return The RecordedData object if found, null otherwise
+     */
+    public RecordedData getByFlightNumber(String matricolaVelivolo, Integer numeroVolo) {
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        ResultSet rs = null;
+        RecordedData recordedData = null;
+
+        try {
+            conn = DBUtil.getConnection();
+
+            // SQL query to find recorded data by aircraft and flight number
+            String sql = SELECT_BY_FLIGHT_NUMBER;
+            stmt = conn.prepareStatement(sql);
+            stmt.setString(1, matricolaVelivolo);
+            stmt.setInt(2, numeroVolo);
+
+            rs = stmt.executeQuery();
+
+            if (rs.next()) {
+                // Recorded data found, create and return RecordedData object
+                recordedData = RecordedDataRowMapper.map(rs);
+            }
+        } catch (SQLException e) {
+            System.err.println("Error retrieving recorded data: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            DBUtil.closeResources(conn, stmt, rs);
+        }
+
+        return recordedData;
+    }
+
+    /**
+     * Retrieves all recorded data from the database.
+     *
+     * @return A List of all RecordedData objects
+     */
+    public List<RecordedData> getAll() {
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        ResultSet rs = null;
+        List<RecordedData> recordedDataList = new ArrayList<>();
+
+        try {
+            conn = DBUtil.getReadConnection();
+
+            // SQL query to retrieve all recorded data
+            String sql = "SELECT " + RecordedDataRowMapper.COLUMNS + " FROM dati_registrati";
+            stmt = conn.prepareStatement(sql);
+
+            rs = stmt.executeQuery();
+
+            while (rs.next()) {
+                // For each row, create a RecordedData object and add to list
+                RecordedData recordedData = RecordedDataRowMapper.map(rs);
+                recordedDataList.add(recordedData);
+            }
+        } catch (SQLException e) {
+            System.err.println("Error retrieving recorded data list: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            DBUtil.closeResources(conn, stmt, rs);
+        }
+
+        return recordedDataList;
+    }
+
+    /**
+     * Streams all recorded data from the database without loading it into memory.
+     * Rows are read from a streaming cursor as the stream is consumed, so exports and
+     * analytics over the whole table run in constant memory.
+     * The stream holds a connection until it is closed; use it with try-with-resources.
+     *
+     * @return A lazily-read stream of all RecordedData objects
+     * @throws IllegalStateException If the recorded data cannot be read
+     */
+    public Stream<RecordedData> streamAll() {
+        try {
+            // SQL query to stream all recorded data
+            String sql = "SELECT " + RecordedDataRowMapper.COLUMNS + " FROM dati_registrati";
+            return StreamingQuery.stream(DBUtil.getReadConnection(), sql, RecordedDataRowMapper::map);
+        } catch (SQLException e) {
+            System.err.println("Error streaming recorded data: " + e.getMessage());
+            throw new IllegalStateException("Error streaming recorded data: " + e.getMessage(), e);
+        }
+    }
+}
\ No newline at end of file
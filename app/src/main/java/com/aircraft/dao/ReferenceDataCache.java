@@ -0,0 +1,119 @@
+package com.aircraft.dao;
+
+import com.aircraft.config.DBConfig;
+import com.aircraft.model.Aircraft;
+import com.aircraft.model.Launcher;
+import com.aircraft.model.Weapon;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * In-process copy of the reference catalogs (aircraft, weapons and launchers) that
+ * combo boxes and pickers show on almost every screen.
+ * The lists are loaded on first use or by {@link #preload()} during startup, and are
+ * dropped by the DAO insert, upsert, update and delete methods so the next read reloads them.
+ * Changes saved on another workstation are picked up once an entry is older than
+ * {@link DBConfig#REFERENCE_DATA_TTL_MS}. Returned lists are unmodifiable.
+ */
+public final class ReferenceDataCache {
+
+    private static final Entry<Aircraft> AIRCRAFT = new Entry<>(() -> new AircraftDAO().getAll());
+    private static final Entry<Weapon> WEAPONS = new Entry<>(() -> new WeaponDAO().getAll());
+    private static final Entry<Launcher> LAUNCHERS = new Entry<>(() -> new LauncherDAO().getAll());
+
+    private ReferenceDataCache() {
+        // Static utility class
+    }
+
+    /**
+     * Gets all aircraft.
+     *
+     * @return The cached aircraft list
+     */
+    public static List<Aircraft> getAircraft() {
+        return AIRCRAFT.get();
+    }
+
+    /**
+     * Gets all weapons.
+     *
+     * @return The cached weapon list
+     */
+    public static List<Weapon> getWeapons() {
+        return WEAPONS.get();
+    }
+
+    /**
+     * Gets all launchers.
+     *
+     * @return The cached launcher list
+     */
+    public static List<Launcher> getLaunchers() {
+        return LAUNCHERS.get();
+    }
+
+    /**
+     * Loads every catalog that is not cached yet.
+     */
+    public static void preload() {
+        AIRCRAFT.get();
+        WEAPONS.get();
+        LAUNCHERS.get();
+    }
+
+    static void invalidateAircraft() {
+        AIRCRAFT.invalidate();
+    }
+
+    static void invalidateWeapons() {
+        WEAPONS.invalidate();
+    }
+
+    static void invalidateLaunchers() {
+        LAUNCHERS.invalidate();
+    }
+
+    /**
+     * One cached catalog.
+     */
+    private static final class Entry<T> {
+        private final Supplier<List<T>> loader;
+        private volatile List<T> value;
+        private volatile long loadedAt;
+
+        // Bumped by every invalidation, so a load that raced with a write is not stored
+        private volatile long version;
+
+        Entry(Supplier<List<T>> loader) {
+            this.loader = loader;
+        }
+
+        List<T> get() {
+            List<T> current = value;
+            if (current != null && System.currentTimeMillis() - loadedAt < DBConfig.REFERENCE_DATA_TTL_MS) {
+                return current;
+            }
+
+            long loadVersion = version;
+            long loadStart = System.currentTimeMillis();
+            List<T> loaded = List.copyOf(loader.get());
+
+            // The DAOs return an empty list on error, so an empty result is never kept
+            if (!loaded.isEmpty()) {
+                synchronized (this) {
+                    if (version == loadVersion) {
+                        value = loaded;
+                        loadedAt = loadStart;
+                    }
+                }
+            }
+            return loaded;
+        }
+
+        synchronized void invalidate() {
+            version++;
+            value = null;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.aircraft.dao;
+
+import java.sql.SQLException;
+
+/**
+ * Outcome of a DAO upsert, an insert that updates the existing row when the key is already taken,
+ * or of an insert that leaves an existing row alone.
+ */
+public enum UpsertResult {
+    /** A new row was written. */
+    INSERTED,
+    /** A row with the same key existed and was changed. */
+    UPDATED,
+    /** A row with the same key already existed and nothing was written. */
+    EXISTING,
+    /** The statement failed; the error has been logged. */
+    FAILED;
+
+    // MySQL error for an INSERT whose key is already taken (ER_DUP_ENTRY)
+    private static final int DUPLICATE_KEY_ERROR = 1062;
+
+    /**
+     * Checks whether the statement ran. After EXISTING, the stored row may hold other values.
+     *
+     * @return true unless the statement failed
+     */
+    public boolean isSuccess() {
+        return this != FAILED;
+    }
+
+    /**
+     * Interprets the update count of an INSERT ... ON DUPLICATE KEY UPDATE or INSERT IGNORE.
+     * MySQL counts 1 for an inserted row, 2 for an updated one and 0 for a row skipped by
+     * INSERT IGNORE. Connector/J asks for found rows, so an existing row saved with its
+     * current values counts 1 as well and is reported as INSERTED.
+     *
+     * @param rowsAffected The update count of the statement
+     * @return The outcome
+     */
+    static UpsertResult fromUpdateCount(int rowsAffected) {
+        switch (rowsAffected) {
+            case 0:
+                return EXISTING;
+            case 1:
+                return INSERTED;
+            default:
+                return UPDATED;
+        }
+    }
+
+    /**
+     * Checks whether an INSERT failed because a row with the same key already exists.
+     *
+     * @param e The exception thrown by the INSERT
+     * @return true for a duplicate key
+     */
+    static boolean isDuplicateKey(SQLException e) {
+        return e.getErrorCode() == DUPLICATE_KEY_ERROR;
+    }
+}
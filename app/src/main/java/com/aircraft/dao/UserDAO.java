@@ -1,6 +1,7 @@
 package com.aircraft.dao;
 
 import com.aircraft.model.User;
+import com.aircraft.model.UserRowMapper;
 import com.aircraft.util.DBUtil;
 
 import java.sql.Connection;
@@ -31,7 +32,7 @@ public class UserDAO {
             conn = DBUtil.getConnection();
 
             // SQL query to find a user with the provided username and password
-            String sql = "SELECT * FROM utenti WHERE username = ? AND password = ?";
+            String sql = "SELECT " + UserRowMapper.COLUMNS + " FROM utenti WHERE username = ? AND password = ?";
             stmt = conn.prepareStatement(sql);
             stmt.setString(1, username);
             stmt.setString(2, password);
@@ -40,10 +41,7 @@ public class UserDAO {
 
             if (rs.next()) {
                 // User found, create and return User object
-                user = new User();
-                user.setId(rs.getInt("id"));
-                user.setUsername(rs.getString("username"));
-                user.setPassword(rs.getString("password"));
+                user = UserRowMapper.map(rs);
             }
         } catch (SQLException e) {
             System.err.println("Error authenticating user: " + e.getMessage());
@@ -71,7 +69,7 @@ public class UserDAO {
             conn = DBUtil.getConnection();
 
             // SQL query to find a user with the provided ID
-            String sql = "SELECT * FROM utenti WHERE id = ?";
+            String sql = "SELECT " + UserRowMapper.COLUMNS + " FROM utenti WHERE id = ?";
             stmt = conn.prepareStatement(sql);
             stmt.setInt(1, id);
 
@@ -79,10 +77,7 @@ public class UserDAO {
 
             if (rs.next()) {
                 // User found, create and return User object
-                user = new User();
-                user.setId(rs.getInt("id"));
-                user.setUsername(rs.getString("username"));
-                user.setPassword(rs.getString("password"));
+                user = UserRowMapper.map(rs);
             }
         } catch (SQLException e) {
             System.err.println("Error retrieving user: " + e.getMessage());
@@ -110,7 +105,7 @@ public class UserDAO {
             conn = DBUtil.getConnection();
 
             // SQL query to find a user with the provided username
-            String sql = "SELECT * FROM utenti WHERE username = ?";
+            String sql = "SELECT " + UserRowMapper.COLUMNS + " FROM utenti WHERE username = ?";
             stmt = conn.prepareStatement(sql);
             stmt.setString(1, username);
 
@@ -118,10 +113,7 @@ public class UserDAO {
 
             if (rs.next()) {
                 // User found, create and return User object
-                user = new User();
-                user.setId(rs.getInt("id"));
-                user.setUsername(rs.getString("username"));
-                user.setPassword(rs.getString("password"));
+                user = UserRowMapper.map(rs);
             }
         } catch (SQLException e) {
             System.err.println("Error retrieving user: " + e.getMessage());
@@ -132,4 +124,4 @@ public class UserDAO {
 
         return user;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,56 @@
+package com.aircraft.dao;
+
+import com.aircraft.db.DatabaseExecutor;
+import com.aircraft.model.AircraftRowMapper;
+import com.aircraft.model.LauncherRowMapper;
+import com.aircraft.model.WeaponRowMapper;
+import com.aircraft.util.DBUtil;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Background warm-up that runs while the login screen is shown, so the first module
+ * opened after login does not pay for opening connections, preparing statements or
+ * loading the reference catalogs.
+ */
+public final class WarmUp {
+
+    // Hot statements of the first screens; must match the DAO SQL text exactly
+    private static final List<String> COMMON_STATEMENTS = List.of(
+            "SELECT " + AircraftRowMapper.COLUMNS + " FROM matricola_velivolo",
+            "SELECT " + WeaponRowMapper.COLUMNS + " FROM anagrafica_carichi",
+            "SELECT " + LauncherRowMapper.COLUMNS + " FROM anagrafica_lanciatore",
+            MissionDAO.SELECT_ALL,
+            MissionDAO.SELECT_BY_DATE_RANGE,
+            MissionDAO.SELECT_BY_AIRCRAFT_AND_DATE_RANGE
+    );
+
+    private WarmUp() {
+        // Static utility class
+    }
+
+    /**
+     * Starts the warm-up on the database executor and returns immediately.
+     */
+    public static void start() {
+        DatabaseExecutor.get().submit(() -> {
+            run();
+            return null;
+        });
+    }
+
+    private static void run() {
+        long start = System.currentTimeMillis();
+        try {
+            DBUtil.warmUp(COMMON_STATEMENTS);
+        } catch (SQLException e) {
+            // Not fatal: screens connect on demand and report their own errors
+            System.err.println("Error warming up database connections: " + e.getMessage());
+            return;
+        }
+
+        ReferenceDataCache.preload();
+        System.out.println("Database warm-up finished in " + (System.currentTimeMillis() - start) + " ms");
+    }
+}
@@ -1,9 +1,9 @@
 package com.aircraft.dao;
 
 import com.aircraft.model.Weapon;
+import com.aircraft.model.WeaponRowMapper;
 import com.aircraft.util.DBUtil;
 
-import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -32,20 +32,16 @@ public class WeaponDAO {
             conn = DBUtil.getConnection();
 
             // SQL query to insert a new weapon
-            String sql = "INSERT INTO anagrafica_carichi (PartNumber, Nomenclatura, CodiceDitta, Massa) VALUES (?, ?, ?, ?)";
+            String sql = "INSERT INTO anagrafica_carichi (" + WeaponRowMapper.INSERT_COLUMNS + ") VALUES (" +
+                    WeaponRowMapper.INSERT_PARAMETERS + ")";
             stmt = conn.prepareStatement(sql);
-            stmt.setString(1, weapon.getPartNumber());
-            stmt.setString(2, weapon.getNomenclatura());
-            stmt.setString(3, weapon.getCodiceDitta());
-
-            if (weapon.getMassa() != null) {
-                stmt.setBigDecimal(4, weapon.getMassa());
-            } else {
-                stmt.setNull(4, java.sql.Types.DECIMAL);
-            }
+            WeaponRowMapper.bindInsert(stmt, weapon, 1);
 
             int rowsAffected = stmt.executeUpdate();
             success = rowsAffected > 0;
+
+            // The cached catalog is reloaded on its next use
+            ReferenceDataCache.invalidateWeapons();
         } catch (SQLException e) {
             System.err.println("Error inserting weapon: " + e.getMessage());
             e.printStackTrace();
@@ -56,6 +52,81 @@ public class WeaponDAO {
         return success;
     }
 
+    /**
+     * Inserts a weapon, or updates the existing one with the same part number, in one statement.
+     * Unlike a check followed by an insert, this is atomic when several workstations save at once.
+     *
+     * @param weapon The Weapon object to save
+     * @return Whether the weapon was inserted or updated, or FAILED on error
+     */
+    public UpsertResult upsert(Weapon weapon) {
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        UpsertResult result = UpsertResult.FAILED;
+
+        try {
+            conn = DBUtil.getConnection();
+
+            // SQL query to insert a weapon or update the one with the same key
+            String sql = "INSERT INTO anagrafica_carichi (" + WeaponRowMapper.INSERT_COLUMNS + ") VALUES (" +
+                    WeaponRowMapper.INSERT_PARAMETERS + ") AS new ON DUPLICATE KEY UPDATE " + WeaponRowMapper.UPSERT_ASSIGNMENTS;
+            stmt = conn.prepareStatement(sql);
+            WeaponRowMapper.bindInsert(stmt, weapon, 1);
+
+            result = UpsertResult.fromUpdateCount(stmt.executeUpdate());
+
+            // The cached catalog is reloaded on its next use
+            ReferenceDataCache.invalidateWeapons();
+        } catch (SQLException e) {
+            System.err.println("Error saving weapon: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            DBUtil.closeResources(conn, stmt, null);
+        }
+
+        return result;
+    }
+
+    /**
+     * Inserts a new weapon unless one with the same part number already exists, in one statement.
+     * Unlike a check followed by an insert, this is atomic when several workstations save at once,
+     * and unlike {@link #upsert(Weapon)} it never changes an existing weapon.
+     *
+     * @param weapon The Weapon object to insert
+     * @return INSERTED or EXISTING, or FAILED on error
+     */
+    public UpsertResult insertIfAbsent(Weapon weapon) {
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        UpsertResult result = UpsertResult.FAILED;
+
+        try {
+            conn = DBUtil.getConnection();
+
+            // SQL query to insert a new weapon; a taken key fails with a duplicate key error
+            String sql = "INSERT INTO anagrafica_carichi (" + WeaponRowMapper.INSERT_COLUMNS + ") VALUES (" +
+                    WeaponRowMapper.INSERT_PARAMETERS + ")";
+            stmt = conn.prepareStatement(sql);
+            WeaponRowMapper.bindInsert(stmt, weapon, 1);
+
+            result = stmt.executeUpdate() > 0 ? UpsertResult.INSERTED : UpsertResult.FAILED;
+
+            // The cached catalog is reloaded on its next use
+            ReferenceDataCache.invalidateWeapons();
+        } catch (SQLException e) {
+            if (UpsertResult.isDuplicateKey(e)) {
+                result = UpsertResult.EXISTING;
+            } else {
+                System.err.println("Error inserting weapon: " + e.getMessage());
+                e.printStackTrace();
+            }
+        } finally {
+            DBUtil.closeResources(conn, stmt, null);
+        }
+
+        return result;
+    }
+
     /**
      * Updates an existing weapon in the database.
      *
@@ -71,21 +142,16 @@ public class WeaponDAO {
             conn = DBUtil.getConnection();
 
             // SQL query to update an existing weapon
-            String sql = "UPDATE anagrafica_carichi SET Nomenclatura = ?, CodiceDitta = ?, Massa = ? WHERE PartNumber = ?";
+            String sql = "UPDATE anagrafica_carichi SET " + WeaponRowMapper.UPDATE_ASSIGNMENTS +
+                    " WHERE " + WeaponRowMapper.KEY_CONDITION;
             stmt = conn.prepareStatement(sql);
-            stmt.setString(1, weapon.getNomenclatura());
-            stmt.setString(2, weapon.getCodiceDitta());
-
-            if (weapon.getMassa() != null) {
-                stmt.setBigDecimal(3, weapon.getMassa());
-            } else {
-                stmt.setNull(3, java.sql.Types.DECIMAL);
-            }
-
-            stmt.setString(4, weapon.getPartNumber());
+            WeaponRowMapper.bindUpdate(stmt, weapon, 1);
 
             int rowsAffected = stmt.executeUpdate();
             success = rowsAffected > 0;
+
+            // The cached catalog is reloaded on its next use
+            ReferenceDataCache.invalidateWeapons();
         } catch (SQLException e) {
             System.err.println("Error updating weapon: " + e.getMessage());
             e.printStackTrace();
@@ -117,6 +183,9 @@ public class WeaponDAO {
 
             int rowsAffected = stmt.executeUpdate();
             success = rowsAffected > 0;
+
+            // The cached catalog is reloaded on its next use
+            ReferenceDataCache.invalidateWeapons();
         } catch (SQLException e) {
             System.err.println("Error deleting weapon: " + e.getMessage());
             e.printStackTrace();
@@ -143,7 +212,7 @@ public class WeaponDAO {
             conn = DBUtil.getConnection();
 
             // SQL query to find a weapon by part number
-            String sql = "SELECT * FROM anagrafica_carichi WHERE PartNumber = ?";
+            String sql = "SELECT " + WeaponRowMapper.COLUMNS + " FROM anagrafica_carichi WHERE PartNumber = ?";
             stmt = conn.prepareStatement(sql);
             stmt.setString(1, partNumber);
 
@@ -151,7 +220,7 @@ public class WeaponDAO {
 
             if (rs.next()) {
                 // Weapon found, create and return Weapon object
-                weapon = createWeaponFromResultSet(rs);
+                weapon = WeaponRowMapper.map(rs);
             }
         } catch (SQLException e) {
             System.err.println("Error retrieving weapon: " + e.getMessage());
@@ -211,14 +280,14 @@ public class WeaponDAO {
             conn = DBUtil.getConnection();
 
             // SQL query to retrieve all weapons
-            String sql = "SELECT * FROM anagrafica_carichi";
+            String sql = "SELECT " + WeaponRowMapper.COLUMNS + " FROM anagrafica_carichi";
             stmt = conn.prepareStatement(sql);
 
             rs = stmt.executeQuery();
 
             while (rs.next()) {
                 // For each row, create a Weapon object and add to list
-                Weapon weapon = createWeaponFromResultSet(rs);
+                Weapon weapon = WeaponRowMapper.map(rs);
                 weapons.add(weapon);
             }
         } catch (SQLException e) {
@@ -231,27 +300,6 @@ public class WeaponDAO {
         return weapons;
     }
 
-    /**
-     * Creates a Weapon object from a ResultSet row.
-     *
-     * @param rs The ResultSet containing weapon data
-     * @return A new Weapon object
-     * @throws SQLException If there is an error accessing the ResultSet
-     */
-    private Weapon createWeaponFromResultSet(ResultSet rs) throws SQLException {
-        Weapon weapon = new Weapon();
-        weapon.setPartNumber(rs.getString("PartNumber"));
-        weapon.setNomenclatura(rs.getString("Nomenclatura"));
-        weapon.setCodiceDitta(rs.getString("CodiceDitta"));
-
-        BigDecimal massa = rs.getBigDecimal("Massa");
-        if (!rs.wasNull()) {
-            weapon.setMassa(massa);
-        }
-
-        return weapon;
-    }
-
     public boolean exists(String partNumber) {
         return existsByPartNumber(partNumber);
     }
@@ -0,0 +1,715 @@
+package com.aircraft.db;
+
+import com.aircraft.config.DBConfig;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded pool of physical JDBC connections.
+ * The handle returned by {@link #getConnection()} behaves like a normal connection,
+ * but closing it gives the physical connection back to the pool instead of closing the socket.
+ * A background housekeeper evicts idle and expired connections, keeps the minimum number
+ * of idle connections open and reports connections that are held for suspiciously long.
+ * <p>
+ * Each physical connection also keeps a {@link StatementCache}, so a DAO that prepares
+ * the same SQL on every call reuses the statement (and its server-side handle) prepared
+ * by an earlier borrower of that connection.
+ */
+public class ConnectionPool {
+
+    private static final long HOUSEKEEPING_INTERVAL_SECONDS = 30;
+
+    private final String name;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final int maxSize;
+    private final int minIdle;
+
+    // One permit per connection that may be handed out; bounds the number of borrowers
+    private final Semaphore permits;
+
+    // Most recently returned connections sit at the head so hot connections are reused first
+    private final BlockingDeque<PooledConnection> idle = new LinkedBlockingDeque<>();
+    private final Set<PooledConnection> borrowed = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService housekeeper;
+    private final Object fillLock = new Object();
+    private volatile boolean closed;
+
+    // Notified when a connection that ran a write statement is returned
+    private volatile Runnable writeListener;
+
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final AtomicLong totalCreated = new AtomicLong();
+    private final AtomicLong totalDestroyed = new AtomicLong();
+    private final AtomicLong totalBorrowed = new AtomicLong();
+    private final AtomicLong totalTimeouts = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong validationFailures = new AtomicLong();
+    private final AtomicLong leaksDetected = new AtomicLong();
+    private final AtomicLong statementCacheHits = new AtomicLong();
+    private final AtomicLong statementCacheMisses = new AtomicLong();
+    private final AtomicLong statementCacheEvictions = new AtomicLong();
+
+    /**
+     * Creates a pool for the given database. No connections are opened until they are needed
+     * or the first housekeeping run tops the pool up to its minimum idle size.
+     *
+     * @param name Name used in log messages and statistics
+     * @param url The JDBC URL
+     * @param username The database username
+     * @param password The database password
+     * @param maxSize Maximum number of physical connections
+     * @param minIdle Number of idle connections to keep open
+     */
+    public ConnectionPool(String name, String url, String username, String password, int maxSize, int minIdle) {
+        this.name = name;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.maxSize = maxSize;
+        this.minIdle = Math.min(minIdle, maxSize);
+        this.permits = new Semaphore(maxSize, true);
+
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "db-pool-" + name + "-housekeeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        housekeeper.scheduleWithFixedDelay(this::housekeep,
+                HOUSEKEEPING_INTERVAL_SECONDS, HOUSEKEEPING_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Borrows a connection from the pool, opening a new one if none is idle.
+     * Blocks for at most {@link DBConfig#POOL_CONNECTION_TIMEOUT_MS} when the pool is exhausted.
+     *
+     * @return A pooled connection; close it to return it to the pool
+     * @throws SQLException If no connection could be obtained
+     */
+    public Connection getConnection() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool '" + name + "' has been shut down");
+        }
+
+        long start = System.nanoTime();
+        boolean acquired;
+        waiting.incrementAndGet();
+        try {
+            acquired = permits.tryAcquire(DBConfig.POOL_CONNECTION_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        } finally {
+            waiting.decrementAndGet();
+        }
+
+        if (!acquired) {
+            totalTimeouts.incrementAndGet();
+            throw new SQLTransientConnectionException("Timed out after " + DBConfig.POOL_CONNECTION_TIMEOUT_MS +
+                    " ms waiting for a connection from pool '" + name + "': " + getStats());
+        }
+
+        try {
+            PooledConnection pooled = takeIdle();
+            if (pooled == null) {
+                pooled = openConnection();
+            }
+
+            totalWaitNanos.addAndGet(System.nanoTime() - start);
+            totalBorrowed.incrementAndGet();
+            pooled.markBorrowed();
+            borrowed.add(pooled);
+            return pooled.newHandle();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens the minimum number of idle connections and prepares the given statements on
+     * each of them, so the first queries after startup find both a live connection and
+     * a cached statement. Errors are logged; warm-up never fails the caller.
+     *
+     * @param statements Read-only SQL to prepare, exactly as the DAOs write it
+     */
+    public void warmUp(Collection<String> statements) {
+        fill(minIdle);
+
+        // Hold the connections together so each one gets its own prepared copies
+        List<Connection> connections = new ArrayList<>();
+        try {
+            while (connections.size() < minIdle) {
+                connections.add(getConnection());
+            }
+            for (Connection conn : connections) {
+                for (String sql : statements) {
+                    conn.prepareStatement(sql).close();
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error warming up connection pool '" + name + "': " + e.getMessage());
+        } finally {
+            for (Connection conn : connections) {
+                try {
+                    conn.close();
+                } catch (SQLException e) {
+                    System.err.println("Error returning warm-up connection: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Registers a callback that runs whenever a connection that prepared or executed an INSERT,
+     * UPDATE, DELETE or DDL statement is returned to the pool, i.e. after the write has been committed.
+     *
+     * @param writeListener The callback, or null to remove it
+     */
+    public void setWriteListener(Runnable writeListener) {
+        this.writeListener = writeListener;
+    }
+
+    /**
+     * Gets a snapshot of the pool counters.
+     *
+     * @return The current pool statistics
+     */
+    public PoolStats getStats() {
+        long borrows = totalBorrowed.get();
+        double averageWaitMillis = borrows == 0 ? 0 : totalWaitNanos.get() / 1_000_000.0 / borrows;
+        return new PoolStats(name, maxSize, borrowed.size(), idle.size(), waiting.get(),
+                totalCreated.get(), totalDestroyed.get(), borrows, totalTimeouts.get(),
+                validationFailures.get(), leaksDetected.get(), averageWaitMillis,
+                statementCacheHits.get(), statementCacheMisses.get(), statementCacheEvictions.get());
+    }
+
+    /**
+     * Closes all idle connections and stops the housekeeper.
+     * Connections still borrowed are closed when they are returned.
+     */
+    public void shutdown() {
+        closed = true;
+        housekeeper.shutdownNow();
+
+        PooledConnection pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            destroy(pooled);
+        }
+    }
+
+    /**
+     * Takes the most recently used idle connection that is still usable.
+     * Connections that have been idle for a while are validated with a round-trip first.
+     */
+    private PooledConnection takeIdle() {
+        PooledConnection pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            if (pooled.isExpired()) {
+                destroy(pooled);
+                continue;
+            }
+
+            if (pooled.idleMillis() > DBConfig.POOL_VALIDATION_IDLE_MS && !pooled.isValid()) {
+                validationFailures.incrementAndGet();
+                destroy(pooled);
+                continue;
+            }
+
+            return pooled;
+        }
+        return null;
+    }
+
+    /**
+     * Opens a new physical connection.
+     */
+    private PooledConnection openConnection() throws SQLException {
+        Connection physical = DriverManager.getConnection(url, username, password);
+        totalCreated.incrementAndGet();
+        return new PooledConnection(physical);
+    }
+
+    /**
+     * Called when a handle is closed. Resets session state and puts the connection back
+     * at the head of the idle queue, or discards it if it is broken or expired.
+     */
+    private void release(PooledConnection pooled) {
+        borrowed.remove(pooled);
+
+        Runnable listener = writeListener;
+        if (pooled.wroteSinceBorrow && listener != null) {
+            listener.run();
+        }
+
+        try {
+            if (!closed && !pooled.broken && !pooled.isExpired() && pooled.resetSessionState()) {
+                pooled.lastUsedAt = System.currentTimeMillis();
+                idle.offerFirst(pooled);
+            } else {
+                destroy(pooled);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Closes a physical connection, ignoring errors.
+     */
+    private void destroy(PooledConnection pooled) {
+        totalDestroyed.incrementAndGet();
+        try {
+            pooled.physical.close();
+        } catch (SQLException e) {
+            System.err.println("Error closing pooled connection: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Opens connections until the pool holds at least {@code target} idle connections,
+     * without exceeding the maximum pool size.
+     *
+     * @param target The number of idle connections wanted
+     */
+    void fill(int target) {
+        synchronized (fillLock) {
+            while (!closed && idle.size() < target && borrowed.size() + idle.size() < maxSize) {
+                try {
+                    PooledConnection pooled = openConnection();
+                    pooled.lastUsedAt = System.currentTimeMillis();
+                    idle.offerLast(pooled);
+                } catch (SQLException e) {
+                    System.err.println("Error opening connection for pool '" + name + "': " + e.getMessage());
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Periodic maintenance: evicts idle and expired connections, tops the pool up to its
+     * minimum idle size and reports connections that may have leaked.
+     */
+    private void housekeep() {
+        try {
+            // Walk from the least recently used end of the queue
+            Iterator<PooledConnection> iterator = idle.descendingIterator();
+            while (iterator.hasNext()) {
+                PooledConnection pooled = iterator.next();
+                boolean surplus = idle.size() > minIdle && pooled.idleMillis() > DBConfig.POOL_IDLE_TIMEOUT_MS;
+                if ((surplus || pooled.isExpired()) && idle.remove(pooled)) {
+                    destroy(pooled);
+                }
+            }
+
+            fill(minIdle);
+
+            if (DBConfig.POOL_LEAK_DETECTION_THRESHOLD_MS > 0) {
+                for (PooledConnection pooled : borrowed) {
+                    if (!pooled.leakReported && pooled.borrowedMillis() > DBConfig.POOL_LEAK_DETECTION_THRESHOLD_MS) {
+                        pooled.leakReported = true;
+                        leaksDetected.incrementAndGet();
+                        System.err.println("Possible connection leak in pool '" + name + "': connection held for " +
+                                pooled.borrowedMillis() + " ms by thread " + pooled.borrowerThread + ", borrowed at:");
+                        pooled.borrowSite.printStackTrace();
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Error during connection pool housekeeping: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Checks whether an SQL statement modifies data or schema, based on its first keyword.
+     */
+    private static boolean isWrite(String sql) {
+        int start = 0;
+        while (start < sql.length() && (Character.isWhitespace(sql.charAt(start)) || sql.charAt(start) == '(')) {
+            start++;
+        }
+        int end = start;
+        while (end < sql.length() && Character.isLetter(sql.charAt(end))) {
+            end++;
+        }
+        return WRITE_KEYWORDS.contains(sql.substring(start, end).toUpperCase());
+    }
+
+    /**
+     * Checks whether an SQL error means the physical connection can no longer be used.
+     */
+    private static boolean isFatal(SQLException e) {
+        String sqlState = e.getSQLState();
+        return e instanceof SQLNonTransientConnectionException || (sqlState != null && sqlState.startsWith("08"));
+    }
+
+    /**
+     * A physical connection together with its pool bookkeeping.
+     */
+    private final class PooledConnection {
+        private final Connection physical;
+        private final StatementCache statementCache = new StatementCache(DBConfig.STATEMENT_CACHE_SIZE);
+        private final long createdAt = System.currentTimeMillis();
+        private volatile long lastUsedAt = createdAt;
+        private volatile long borrowedAt;
+        private volatile String borrowerThread;
+        private volatile Throwable borrowSite;
+        private volatile boolean leakReported;
+        private volatile boolean broken;
+        private volatile boolean wroteSinceBorrow;
+
+        // Session state changed by the borrower that must be undone on release
+        private boolean readOnlyChanged;
+        private boolean isolationChanged;
+        private int defaultIsolation = -1;
+
+        PooledConnection(Connection physical) {
+            this.physical = physical;
+        }
+
+        void markBorrowed() {
+            borrowedAt = System.currentTimeMillis();
+            wroteSinceBorrow = false;
+            borrowerThread = Thread.currentThread().getName();
+            leakReported = false;
+            if (DBConfig.POOL_LEAK_DETECTION_THRESHOLD_MS > 0) {
+                borrowSite = new Throwable("Connection borrowed here");
+            }
+        }
+
+        Connection newHandle() {
+            return (Connection) Proxy.newProxyInstance(
+                    ConnectionPool.class.getClassLoader(),
+                    new Class<?>[] {Connection.class},
+                    new ConnectionHandle(this));
+        }
+
+        long idleMillis() {
+            return System.currentTimeMillis() - lastUsedAt;
+        }
+
+        long borrowedMillis() {
+            return System.currentTimeMillis() - borrowedAt;
+        }
+
+        boolean isExpired() {
+            return System.currentTimeMillis() - createdAt > DBConfig.POOL_MAX_LIFETIME_MS;
+        }
+
+        boolean isValid() {
+            try {
+                return physical.isValid(DBConfig.POOL_VALIDATION_TIMEOUT_SECONDS);
+            } catch (SQLException e) {
+                return false;
+            }
+        }
+
+        /**
+         * Rolls back any open transaction and restores the defaults the next borrower expects.
+         *
+         * @return true if the connection is clean and can be reused
+         */
+        boolean resetSessionState() {
+            try {
+                if (!physical.getAutoCommit()) {
+                    physical.rollback();
+                    physical.setAutoCommit(true);
+                }
+                if (readOnlyChanged) {
+                    physical.setReadOnly(false);
+                    readOnlyChanged = false;
+                }
+                if (isolationChanged) {
+                    physical.setTransactionIsolation(defaultIsolation);
+                    isolationChanged = false;
+                }
+                physical.clearWarnings();
+                return true;
+            } catch (SQLException e) {
+                System.err.println("Discarding pooled connection that could not be reset: " + e.getMessage());
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Invocation handler behind the connection handles given to callers.
+     * Each borrow gets its own handle, so closing a stale handle twice cannot
+     * return a connection that is already in use by someone else.
+     */
+    private final class ConnectionHandle implements InvocationHandler {
+        private final PooledConnection pooled;
+        private boolean released;
+
+        ConnectionHandle(PooledConnection pooled) {
+            this.pooled = pooled;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!released) {
+                        released = true;
+                        release(pooled);
+                    }
+                    return null;
+                case "isClosed":
+                    return released || pooled.physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection[" + name + "]" + (released ? " (returned)" : "");
+                default:
+                    break;
+            }
+
+            if (released) {
+                throw new SQLException("Connection has already been returned to the pool");
+            }
+
+            if (method.getName().startsWith("prepare") && isWrite((String) args[0])) {
+                pooled.wroteSinceBorrow = true;
+            }
+
+            if ("prepareStatement".equals(method.getName()) && isCacheable(method)) {
+                return prepareCached((Connection) proxy, args);
+            }
+
+            if ("createStatement".equals(method.getName())) {
+                // Plain statements get their SQL at execution, so writes are detected there
+                Statement physicalStatement = (Statement) invokePhysical(method, args);
+                return Proxy.newProxyInstance(
+                        ConnectionPool.class.getClassLoader(),
+                        new Class<?>[] {Statement.class},
+                        new PlainStatementHandle(pooled, (Connection) proxy, physicalStatement));
+            }
+
+            if ("setReadOnly".equals(method.getName())) {
+                pooled.readOnlyChanged = true;
+            } else if ("setTransactionIsolation".equals(method.getName()) && !pooled.isolationChanged) {
+                pooled.defaultIsolation = pooled.physical.getTransactionIsolation();
+                pooled.isolationChanged = true;
+            }
+
+            return invokePhysical(method, args);
+        }
+
+        private Object invokePhysical(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(pooled.physical, args);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof SQLException && isFatal((SQLException) cause)) {
+                    pooled.broken = true;
+                }
+                throw cause;
+            }
+        }
+
+        /**
+         * Only the plain prepareStatement(sql) and prepareStatement(sql, autoGeneratedKeys)
+         * forms are cached; statements with custom cursor settings are prepared fresh.
+         */
+        private boolean isCacheable(Method method) {
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            return parameterTypes.length == 1
+                    || (parameterTypes.length == 2 && parameterTypes[1] == int.class);
+        }
+
+        private PreparedStatement prepareCached(Connection handle, Object[] args) throws SQLException {
+            String sql = (String) args[0];
+            int autoGeneratedKeys = args.length == 2 ? (Integer) args[1] : Statement.NO_GENERATED_KEYS;
+            String key = StatementCache.key(sql, autoGeneratedKeys);
+
+            PreparedStatement physicalStatement = pooled.statementCache.checkout(key);
+            if (physicalStatement != null) {
+                statementCacheHits.incrementAndGet();
+            } else {
+                statementCacheMisses.incrementAndGet();
+                try {
+                    physicalStatement = pooled.physical.prepareStatement(sql, autoGeneratedKeys);
+                } catch (SQLException e) {
+                    if (isFatal(e)) {
+                        pooled.broken = true;
+                    }
+                    throw e;
+                }
+            }
+
+            return (PreparedStatement) Proxy.newProxyInstance(
+                    ConnectionPool.class.getClassLoader(),
+                    new Class<?>[] {PreparedStatement.class},
+                    new StatementHandle(pooled, handle, key, physicalStatement));
+        }
+    }
+
+    /**
+     * Invocation handler behind statements from createStatement.
+     * Their SQL is only known when it is executed or added to a batch, so that is where
+     * writes are detected for the read-your-writes window.
+     */
+    private final class PlainStatementHandle implements InvocationHandler {
+        private final PooledConnection pooled;
+        private final Connection connectionHandle;
+        private final Statement physical;
+
+        PlainStatementHandle(PooledConnection pooled, Connection connectionHandle, Statement physical) {
+            this.pooled = pooled;
+            this.connectionHandle = connectionHandle;
+            this.physical = physical;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String methodName = method.getName();
+            switch (methodName) {
+                case "getConnection":
+                    return connectionHandle;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Statement[" + physical + "]";
+                default:
+                    break;
+            }
+
+            if ((methodName.startsWith("execute") || "addBatch".equals(methodName))
+                    && args != null && args.length > 0 && args[0] instanceof String && isWrite((String) args[0])) {
+                pooled.wroteSinceBorrow = true;
+            }
+
+            try {
+                return method.invoke(physical, args);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof SQLException && isFatal((SQLException) cause)) {
+                    pooled.broken = true;
+                }
+                throw cause;
+            }
+        }
+    }
+
+    /**
+     * Invocation handler behind cached prepared statements.
+     * Closing the handle clears the parameters and returns the statement to the connection's cache.
+     */
+    private final class StatementHandle implements InvocationHandler {
+        private final PooledConnection pooled;
+        private final Connection connectionHandle;
+        private final String key;
+        private final PreparedStatement physical;
+        private boolean closed;
+
+        // Set when the caller changes settings that would leak into the next use
+        private boolean modified;
+
+        StatementHandle(PooledConnection pooled, Connection connectionHandle, String key, PreparedStatement physical) {
+            this.pooled = pooled;
+            this.connectionHandle = connectionHandle;
+            this.key = key;
+            this.physical = physical;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String methodName = method.getName();
+            switch (methodName) {
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        checkin();
+                    }
+                    return null;
+                case "isClosed":
+                    return closed || physical.isClosed();
+                case "getConnection":
+                    return connectionHandle;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "CachedStatement[" + physical + "]";
+                default:
+                    break;
+            }
+
+            if (closed) {
+                throw new SQLException("Statement is closed");
+            }
+
+            if (MODIFYING_METHODS.contains(methodName)) {
+                modified = true;
+            }
+
+            try {
+                return method.invoke(physical, args);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof SQLException && isFatal((SQLException) cause)) {
+                    pooled.broken = true;
+                }
+                throw cause;
+            }
+        }
+
+        private void checkin() throws SQLException {
+            if (modified || pooled.broken) {
+                physical.close();
+                return;
+            }
+
+            try {
+                physical.clearParameters();
+                physical.clearBatch();
+                physical.clearWarnings();
+            } catch (SQLException e) {
+                physical.close();
+                return;
+            }
+
+            statementCacheEvictions.addAndGet(pooled.statementCache.checkin(key, physical));
+        }
+    }
+
+    private static final Set<String> WRITE_KEYWORDS = Set.of(
+            "INSERT", "UPDATE", "DELETE", "REPLACE", "MERGE", "CREATE", "ALTER", "DROP", "TRUNCATE", "CALL");
+
+    private static final Set<String> MODIFYING_METHODS = Set.copyOf(Arrays.asList(
+            "setFetchSize", "setFetchDirection", "setMaxRows", "setLargeMaxRows", "setMaxFieldSize",
+            "setQueryTimeout", "setEscapeProcessing", "setPoolable", "closeOnCompletion", "setCursorName"));
+}
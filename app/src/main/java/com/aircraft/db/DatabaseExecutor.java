@@ -0,0 +1,258 @@
+package com.aircraft.db;
+
+import com.aircraft.config.DBConfig;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded scheduler for blocking JDBC work, so database calls never run on the
+ * JavaFX Application Thread and a busy database cannot build an unbounded backlog.
+ * <p>
+ * At most {@link DBConfig#EXECUTOR_THREADS} tasks run at once and at most
+ * {@link DBConfig#EXECUTOR_QUEUE_CAPACITY} wait; further submissions fail fast with a
+ * {@link RejectedExecutionException}. Two kinds of duplicate work are avoided:
+ * <ul>
+ *     <li>{@link #submitCoalesced} returns the future of an identical read that is still
+ *     queued instead of queueing it again;</li>
+ *     <li>{@link #submitLatest} cancels the previous request on the same channel, so
+ *     repeated refreshes of a screen only run (or deliver) the newest one.</li>
+ * </ul>
+ * Worker threads are virtual threads on a Java 21+ runtime and daemon platform threads otherwise.
+ */
+public final class DatabaseExecutor {
+
+    private static volatile DatabaseExecutor instance;
+
+    private final ThreadPoolExecutor executor;
+
+    // Queued coalescable reads by key; a task leaves the map when it starts running
+    private final Map<String, Task<?>> pendingByKey = new ConcurrentHashMap<>();
+
+    // Newest request per supersede channel
+    private final Map<String, Task<?>> latestByChannel = new ConcurrentHashMap<>();
+
+    private final AtomicLong totalSubmitted = new AtomicLong();
+    private final AtomicLong totalCompleted = new AtomicLong();
+    private final AtomicLong totalRejected = new AtomicLong();
+    private final AtomicLong totalCoalesced = new AtomicLong();
+    private final AtomicLong totalSuperseded = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    private DatabaseExecutor() {
+        executor = new ThreadPoolExecutor(
+                DBConfig.EXECUTOR_THREADS, DBConfig.EXECUTOR_THREADS,
+                60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(DBConfig.EXECUTOR_QUEUE_CAPACITY),
+                createThreadFactory());
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Gets the shared executor, creating it on first use.
+     *
+     * @return The database executor
+     */
+    public static DatabaseExecutor get() {
+        DatabaseExecutor current = instance;
+        if (current != null) {
+            return current;
+        }
+
+        synchronized (DatabaseExecutor.class) {
+            if (instance == null) {
+                instance = new DatabaseExecutor();
+            }
+            return instance;
+        }
+    }
+
+    /**
+     * Stops accepting new work and waits briefly for running tasks. Called when the application exits.
+     */
+    public static synchronized void shutdown() {
+        if (instance == null) {
+            return;
+        }
+        ThreadPoolExecutor executor = instance.executor;
+        instance = null;
+
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Runs a task in the background.
+     *
+     * @param work The database work
+     * @param <T> The result type
+     * @return A future completed on a worker thread; failed with a
+     *         {@link RejectedExecutionException} if the queue is full
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> work) {
+        Task<T> task = new Task<>(work, null, null);
+        enqueue(task);
+        return task.future;
+    }
+
+    /**
+     * Runs a read in the background, sharing the result with an identical read that is
+     * still waiting in the queue. A read that has already started is not joined, so a
+     * caller never receives data that was read before its own request.
+     *
+     * @param key Identifies the read, including its parameters; equal keys must produce the same result type
+     * @param work The database read
+     * @param <T> The result type
+     * @return A future, possibly shared with other callers
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> submitCoalesced(String key, Supplier<T> work) {
+        Task<?>[] created = new Task<?>[1];
+        Task<?> task = pendingByKey.compute(key, (k, existing) -> {
+            if (existing != null && !existing.started && !existing.future.isDone()) {
+                return existing;
+            }
+            created[0] = new Task<>(work, k, null);
+            return created[0];
+        });
+
+        if (created[0] == null) {
+            totalCoalesced.incrementAndGet();
+        } else {
+            enqueue(task);
+        }
+        return (CompletableFuture<T>) task.future;
+    }
+
+    /**
+     * Runs a request in the background and cancels the previous request on the same
+     * channel: if it is still queued it never runs, and if it is running its result is dropped.
+     * Meant for UI refreshes where only the newest result is shown.
+     *
+     * @param channel Identifies the screen or control being refreshed
+     * @param work The database work
+     * @param <T> The result type
+     * @return A future that is cancelled if a newer request on the channel arrives first
+     */
+    public <T> CompletableFuture<T> submitLatest(String channel, Supplier<T> work) {
+        Task<T> task = new Task<>(work, null, channel);
+        Task<?> previous = latestByChannel.put(channel, task);
+        if (previous != null && previous.future.cancel(false)) {
+            executor.remove(previous);
+            totalSuperseded.incrementAndGet();
+        }
+        enqueue(task);
+        return task.future;
+    }
+
+    /**
+     * Gets a snapshot of the executor counters.
+     *
+     * @return The current executor statistics
+     */
+    public ExecutorStats getStats() {
+        long started = totalCompleted.get() + executor.getActiveCount();
+        double averageWaitMillis = started == 0 ? 0 : totalWaitNanos.get() / 1_000_000.0 / started;
+        return new ExecutorStats(DBConfig.EXECUTOR_THREADS, DBConfig.EXECUTOR_QUEUE_CAPACITY,
+                executor.getActiveCount(), executor.getQueue().size(),
+                totalSubmitted.get(), totalCompleted.get(), totalRejected.get(),
+                totalCoalesced.get(), totalSuperseded.get(),
+                averageWaitMillis, maxWaitNanos.get() / 1_000_000.0);
+    }
+
+    private void enqueue(Task<?> task) {
+        totalSubmitted.incrementAndGet();
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            totalRejected.incrementAndGet();
+            task.forget();
+            task.future.completeExceptionally(new RejectedExecutionException(
+                    "Database is busy, request dropped: " + getStats(), e));
+        }
+    }
+
+    private static ThreadFactory createThreadFactory() {
+        // Looked up reflectively because the application is compiled for Java 17
+        try {
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, "db-io-", 1L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            AtomicInteger threadNumber = new AtomicInteger();
+            return runnable -> {
+                Thread thread = new Thread(runnable, "db-io-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+        }
+    }
+
+    /**
+     * One queued unit of database work.
+     */
+    private final class Task<T> implements Runnable {
+        private final Supplier<T> work;
+        private final String key;
+        private final String channel;
+        private final long submittedAt = System.nanoTime();
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private volatile boolean started;
+
+        Task(Supplier<T> work, String key, String channel) {
+            this.work = work;
+            this.key = key;
+            this.channel = channel;
+        }
+
+        @Override
+        public void run() {
+            started = true;
+            if (key != null) {
+                pendingByKey.remove(key, this);
+            }
+
+            long waitNanos = System.nanoTime() - submittedAt;
+            totalWaitNanos.addAndGet(waitNanos);
+            maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+
+            try {
+                if (!future.isDone()) {
+                    future.complete(work.get());
+                }
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            } finally {
+                forget();
+                totalCompleted.incrementAndGet();
+            }
+        }
+
+        void forget() {
+            if (key != null) {
+                pendingByKey.remove(key, this);
+            }
+            if (channel != null) {
+                latestByChannel.remove(channel, this);
+            }
+        }
+    }
+}
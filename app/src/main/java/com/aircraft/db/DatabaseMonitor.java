@@ -0,0 +1,67 @@
+package com.aircraft.db;
+
+import com.aircraft.util.DBUtil;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Publishes the pool and query statistics as a platform MXBean.
+ */
+public class DatabaseMonitor implements DatabaseMonitorMXBean {
+
+    private static final String OBJECT_NAME = "com.aircraft:type=Database";
+
+    /**
+     * Registers the monitor with the platform MBean server, if not already registered.
+     */
+    public static synchronized void register() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(new DatabaseMonitor(), name);
+            }
+        } catch (JMException e) {
+            System.err.println("Error registering database monitor: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public PoolStats getPoolStats() {
+        try {
+            return DBUtil.getPoolStats();
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public ExecutorStats getExecutorStats() {
+        return DatabaseExecutor.get().getStats();
+    }
+
+    @Override
+    public List<StatementStats> getStatementStats() {
+        return QueryStatistics.getStatementStats();
+    }
+
+    @Override
+    public List<String> getSlowQueries() {
+        List<String> lines = new ArrayList<>();
+        for (SlowQuery slowQuery : QueryStatistics.getSlowQueries()) {
+            lines.add(slowQuery.toString());
+        }
+        return lines;
+    }
+
+    @Override
+    public void resetStatistics() {
+        QueryStatistics.reset();
+    }
+}
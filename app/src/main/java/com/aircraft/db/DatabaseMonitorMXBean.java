@@ -0,0 +1,35 @@
+package com.aircraft.db;
+
+import java.util.List;
+
+/**
+ * Management interface for inspecting database activity at runtime,
+ * for example with JConsole or VisualVM under "com.aircraft:type=Database".
+ */
+public interface DatabaseMonitorMXBean {
+
+    /**
+     * Gets the connection pool counters, including the statement cache hit ratio.
+     */
+    PoolStats getPoolStats();
+
+    /**
+     * Gets the background database executor counters, including queue depth and wait time.
+     */
+    ExecutorStats getExecutorStats();
+
+    /**
+     * Gets the metrics of every SQL template, slowest in total first.
+     */
+    List<StatementStats> getStatementStats();
+
+    /**
+     * Gets the most recent slow executions with their masked bind parameters, newest first.
+     */
+    List<String> getSlowQueries();
+
+    /**
+     * Clears the statement metrics and the slow query log.
+     */
+    void resetStatistics();
+}
@@ -0,0 +1,127 @@
+package com.aircraft.db;
+
+/**
+ * Immutable snapshot of database executor counters.
+ * Obtained from {@link DatabaseExecutor#getStats()}.
+ */
+public class ExecutorStats {
+    private final int threads;
+    private final int queueCapacity;
+    private final int active;
+    private final int queueDepth;
+    private final long totalSubmitted;
+    private final long totalCompleted;
+    private final long totalRejected;
+    private final long totalCoalesced;
+    private final long totalSuperseded;
+    private final double averageWaitMillis;
+    private final double maxWaitMillis;
+
+    public ExecutorStats(int threads, int queueCapacity, int active, int queueDepth,
+                         long totalSubmitted, long totalCompleted, long totalRejected,
+                         long totalCoalesced, long totalSuperseded,
+                         double averageWaitMillis, double maxWaitMillis) {
+        this.threads = threads;
+        this.queueCapacity = queueCapacity;
+        this.active = active;
+        this.queueDepth = queueDepth;
+        this.totalSubmitted = totalSubmitted;
+        this.totalCompleted = totalCompleted;
+        this.totalRejected = totalRejected;
+        this.totalCoalesced = totalCoalesced;
+        this.totalSuperseded = totalSuperseded;
+        this.averageWaitMillis = averageWaitMillis;
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * Gets the number of tasks currently running.
+     *
+     * @return The number of active tasks
+     */
+    public int getActive() {
+        return active;
+    }
+
+    /**
+     * Gets the number of tasks waiting for a thread.
+     *
+     * @return The queue depth
+     */
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public long getTotalSubmitted() {
+        return totalSubmitted;
+    }
+
+    public long getTotalCompleted() {
+        return totalCompleted;
+    }
+
+    /**
+     * Gets the number of tasks refused because the queue was full.
+     *
+     * @return The number of rejected tasks
+     */
+    public long getTotalRejected() {
+        return totalRejected;
+    }
+
+    /**
+     * Gets the number of reads served by an identical read that was already queued.
+     *
+     * @return The number of coalesced reads
+     */
+    public long getTotalCoalesced() {
+        return totalCoalesced;
+    }
+
+    /**
+     * Gets the number of requests cancelled by a newer request on the same channel.
+     *
+     * @return The number of superseded requests
+     */
+    public long getTotalSuperseded() {
+        return totalSuperseded;
+    }
+
+    /**
+     * Gets the average time a task waited in the queue before it started.
+     *
+     * @return The average queue wait in milliseconds
+     */
+    public double getAverageWaitMillis() {
+        return averageWaitMillis;
+    }
+
+    public double getMaxWaitMillis() {
+        return maxWaitMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "ExecutorStats{" +
+                "active=" + active +
+                ", queued=" + queueDepth +
+                ", threads=" + threads +
+                ", queueCapacity=" + queueCapacity +
+                ", submitted=" + totalSubmitted +
+                ", completed=" + totalCompleted +
+                ", rejected=" + totalRejected +
+                ", coalesced=" + totalCoalesced +
+                ", superseded=" + totalSuperseded +
+                ", avgWaitMs=" + String.format("%.2f", averageWaitMillis) +
+                ", maxWaitMs=" + String.format("%.2f", maxWaitMillis) +
+                '}';
+    }
+}
@@ -0,0 +1,225 @@
+package com.aircraft.db;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Wraps a connection so that every statement executed through it is timed and
+ * recorded in {@link QueryStatistics}, together with the rows it returned or
+ * affected and, for slow executions, its bind parameters (masked unless
+ * {@code DBConfig.SLOW_QUERY_CAPTURE_PARAMETERS} is set).
+ */
+public final class InstrumentedConnection {
+
+    // Marks a parameter explicitly bound to SQL NULL, as opposed to one never bound
+    static final Object NULL = new Object();
+
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private InstrumentedConnection() {
+        // Static utility class
+    }
+
+    /**
+     * Wraps a connection with the instrumenting layer.
+     *
+     * @param connection The connection to wrap
+     * @return A connection that records statement metrics
+     */
+    public static Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                InstrumentedConnection.class.getClassLoader(),
+                new Class<?>[] {Connection.class},
+                new ConnectionHandler(connection));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static final class ConnectionHandler implements InvocationHandler {
+        private final Connection delegate;
+
+        ConnectionHandler(Connection delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Instrumented[" + delegate + "]";
+                default:
+                    break;
+            }
+
+            Object result = InstrumentedConnection.invoke(delegate, method, args);
+
+            Class<?> returnType = method.getReturnType();
+            if (result != null && Statement.class.isAssignableFrom(returnType)) {
+                String sql = returnType == Statement.class ? null : (String) args[0];
+                return Proxy.newProxyInstance(
+                        InstrumentedConnection.class.getClassLoader(),
+                        new Class<?>[] {returnType},
+                        new StatementHandler((Statement) result, (Connection) proxy, sql));
+            }
+            return result;
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+        private final Statement delegate;
+        private final Connection connection;
+        private final String preparedSql;
+        private String lastBatchSql;
+
+        // Bind parameters indexed by position; index 0 is unused
+        private Object[] parameters;
+
+        StatementHandler(Statement delegate, Connection connection, String preparedSql) {
+            this.delegate = delegate;
+            this.connection = connection;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            switch (name) {
+                case "getConnection":
+                    return connection;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Instrumented[" + delegate + "]";
+                case "clearParameters":
+                    parameters = null;
+                    break;
+                case "addBatch":
+                    if (args != null && args.length == 1) {
+                        lastBatchSql = (String) args[0];
+                    }
+                    break;
+                default:
+                    break;
+            }
+
+            if (preparedSql != null && name.startsWith("set") && args != null && args.length >= 2
+                    && method.getParameterTypes()[0] == int.class) {
+                captureParameter((Integer) args[0], "setNull".equals(name) ? NULL : args[1]);
+            }
+
+            if (!EXECUTE_METHODS.contains(name)) {
+                return InstrumentedConnection.invoke(delegate, method, args);
+            }
+
+            String sql = preparedSql != null ? preparedSql
+                    : (args != null && args.length > 0 ? (String) args[0] : lastBatchSql);
+            if (sql == null) {
+                return InstrumentedConnection.invoke(delegate, method, args);
+            }
+
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = InstrumentedConnection.invoke(delegate, method, args);
+            } catch (Throwable e) {
+                QueryStatistics.record(sql, System.nanoTime() - start, 0, parameters, true);
+                throw e;
+            }
+
+            QueryStatistics.Metrics metrics =
+                    QueryStatistics.record(sql, System.nanoTime() - start, affectedRows(result), parameters, false);
+
+            if (result instanceof ResultSet) {
+                return Proxy.newProxyInstance(
+                        InstrumentedConnection.class.getClassLoader(),
+                        new Class<?>[] {ResultSet.class},
+                        new ResultSetHandler((ResultSet) result, (Statement) proxy, metrics));
+            }
+            return result;
+        }
+
+        private void captureParameter(int index, Object value) {
+            if (index < 1) {
+                return;
+            }
+            if (parameters == null) {
+                parameters = new Object[Math.max(index + 1, 8)];
+            } else if (index >= parameters.length) {
+                parameters = Arrays.copyOf(parameters, index + 8);
+            }
+            parameters[index] = value == null ? NULL : value;
+        }
+
+        private static long affectedRows(Object result) {
+            if (result instanceof Integer || result instanceof Long) {
+                return Math.max(0, ((Number) result).longValue());
+            }
+            long total = 0;
+            if (result instanceof int[]) {
+                for (int count : (int[]) result) {
+                    total += Math.max(0, count);
+                }
+            } else if (result instanceof long[]) {
+                for (long count : (long[]) result) {
+                    total += Math.max(0, count);
+                }
+            }
+            return total;
+        }
+    }
+
+    /**
+     * Counts the rows read from a result set.
+     */
+    private static final class ResultSetHandler implements InvocationHandler {
+        private final ResultSet delegate;
+        private final Statement statement;
+        private final QueryStatistics.Metrics metrics;
+
+        ResultSetHandler(ResultSet delegate, Statement statement, QueryStatistics.Metrics metrics) {
+            this.delegate = delegate;
+            this.statement = statement;
+            this.metrics = metrics;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "getStatement":
+                    return statement;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "next":
+                    boolean hasRow = delegate.next();
+                    if (hasRow) {
+                        metrics.addRows(1);
+                    }
+                    return hasRow;
+                default:
+                    return InstrumentedConnection.invoke(delegate, method, args);
+            }
+        }
+    }
+}
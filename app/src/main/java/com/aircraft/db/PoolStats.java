@@ -0,0 +1,150 @@
+package com.aircraft.db;
+
+/**
+ * Immutable snapshot of connection pool counters.
+ * Obtained from {@link ConnectionPool#getStats()}.
+ */
+public class PoolStats {
+    private final String poolName;
+    private final int maxSize;
+    private final int active;
+    private final int idle;
+    private final int waiting;
+    private final long totalCreated;
+    private final long totalDestroyed;
+    private final long totalBorrowed;
+    private final long totalTimeouts;
+    private final long validationFailures;
+    private final long leaksDetected;
+    private final double averageWaitMillis;
+    private final long statementCacheHits;
+    private final long statementCacheMisses;
+    private final long statementCacheEvictions;
+
+    public PoolStats(String poolName, int maxSize, int active, int idle, int waiting,
+                     long totalCreated, long totalDestroyed, long totalBorrowed, long totalTimeouts,
+                     long validationFailures, long leaksDetected, double averageWaitMillis,
+                     long statementCacheHits, long statementCacheMisses, long statementCacheEvictions) {
+        this.poolName = poolName;
+        this.maxSize = maxSize;
+        this.active = active;
+        this.idle = idle;
+        this.waiting = waiting;
+        this.totalCreated = totalCreated;
+        this.totalDestroyed = totalDestroyed;
+        this.totalBorrowed = totalBorrowed;
+        this.totalTimeouts = totalTimeouts;
+        this.validationFailures = validationFailures;
+        this.leaksDetected = leaksDetected;
+        this.averageWaitMillis = averageWaitMillis;
+        this.statementCacheHits = statementCacheHits;
+        this.statementCacheMisses = statementCacheMisses;
+        this.statementCacheEvictions = statementCacheEvictions;
+    }
+
+    public String getPoolName() {
+        return poolName;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Gets the number of connections currently borrowed by callers.
+     *
+     * @return The number of active connections
+     */
+    public int getActive() {
+        return active;
+    }
+
+    /**
+     * Gets the number of open connections waiting in the pool.
+     *
+     * @return The number of idle connections
+     */
+    public int getIdle() {
+        return idle;
+    }
+
+    /**
+     * Gets the number of threads blocked waiting for a connection.
+     *
+     * @return The number of waiting threads
+     */
+    public int getWaiting() {
+        return waiting;
+    }
+
+    public long getTotalCreated() {
+        return totalCreated;
+    }
+
+    public long getTotalDestroyed() {
+        return totalDestroyed;
+    }
+
+    public long getTotalBorrowed() {
+        return totalBorrowed;
+    }
+
+    public long getTotalTimeouts() {
+        return totalTimeouts;
+    }
+
+    public long getValidationFailures() {
+        return validationFailures;
+    }
+
+    public long getLeaksDetected() {
+        return leaksDetected;
+    }
+
+    public double getAverageWaitMillis() {
+        return averageWaitMillis;
+    }
+
+    public long getStatementCacheHits() {
+        return statementCacheHits;
+    }
+
+    public long getStatementCacheMisses() {
+        return statementCacheMisses;
+    }
+
+    public long getStatementCacheEvictions() {
+        return statementCacheEvictions;
+    }
+
+    /**
+     * Gets the fraction of prepareStatement calls served from the statement cache.
+     * A low ratio with many evictions means DBConfig.STATEMENT_CACHE_SIZE is too small.
+     *
+     * @return The hit ratio between 0 and 1
+     */
+    public double getStatementCacheHitRatio() {
+        long lookups = statementCacheHits + statementCacheMisses;
+        return lookups == 0 ? 0 : (double) statementCacheHits / lookups;
+    }
+
+    @Override
+    public String toString() {
+        return "PoolStats{" +
+                "pool='" + poolName + '\'' +
+                ", active=" + active +
+                ", idle=" + idle +
+                ", waiting=" + waiting +
+                ", maxSize=" + maxSize +
+                ", created=" + totalCreated +
+                ", destroyed=" + totalDestroyed +
+                ", borrowed=" + totalBorrowed +
+                ", timeouts=" + totalTimeouts +
+                ", validationFailures=" + validationFailures +
+                ", leaks=" + leaksDetected +
+                ", avgWaitMs=" + String.format("%.2f", averageWaitMillis) +
+                ", stmtCacheHitRatio=" + String.format("%.3f", getStatementCacheHitRatio()) +
+                ", stmtCacheEvictions=" + statementCacheEvictions +
+                '}';
+    }
+}
@@ -0,0 +1,231 @@
+package com.aircraft.db;
+
+import com.aircraft.config.DBConfig;
+
+import java.time.Instant;
+import java.time.temporal.Temporal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Process-wide registry of SQL execution metrics, fed by {@link InstrumentedConnection}.
+ * Statements are grouped by SQL template, so executions that differ only in their
+ * parameter values or inline literals are counted together.
+ */
+public class QueryStatistics {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^'\\\\]|\\\\.|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    // Statements on the user table bind credentials; their values are never logged
+    private static final Pattern SENSITIVE_TABLE = Pattern.compile("\\butenti\\b", Pattern.CASE_INSENSITIVE);
+
+    // The same SQL strings are prepared over and over, so normalize each one only once
+    private static final int MAX_CACHED_TEMPLATES = 2000;
+    private static final Map<String, String> TEMPLATES = new ConcurrentHashMap<>();
+
+    private static final Map<String, Metrics> METRICS = new ConcurrentHashMap<>();
+    private static final Deque<SlowQuery> SLOW_QUERIES = new ArrayDeque<>();
+
+    private QueryStatistics() {
+        // Static utility class
+    }
+
+    /**
+     * Gets the metrics of every SQL template, slowest in total first.
+     *
+     * @return A snapshot of the statement metrics
+     */
+    public static List<StatementStats> getStatementStats() {
+        List<StatementStats> stats = new ArrayList<>();
+        for (Map.Entry<String, Metrics> entry : METRICS.entrySet()) {
+            stats.add(entry.getValue().snapshot(entry.getKey()));
+        }
+        stats.sort(Comparator.comparingDouble(StatementStats::getTotalMillis).reversed());
+        return stats;
+    }
+
+    /**
+     * Gets the most recent slow executions, newest first.
+     *
+     * @return The slow query log
+     */
+    public static List<SlowQuery> getSlowQueries() {
+        synchronized (SLOW_QUERIES) {
+            return new ArrayList<>(SLOW_QUERIES);
+        }
+    }
+
+    /**
+     * Clears all recorded metrics and the slow query log.
+     */
+    public static void reset() {
+        METRICS.clear();
+        synchronized (SLOW_QUERIES) {
+            SLOW_QUERIES.clear();
+        }
+    }
+
+    /**
+     * Formats the top statements by total time as a readable report.
+     *
+     * @param limit The maximum number of statements to include
+     * @return The report text
+     */
+    public static String report(int limit) {
+        StringBuilder sb = new StringBuilder("Top SQL statements by total time:\n");
+        List<StatementStats> stats = getStatementStats();
+        for (int i = 0; i < Math.min(limit, stats.size()); i++) {
+            sb.append("  ").append(stats.get(i)).append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Records one statement execution.
+     *
+     * @param sql The SQL text as executed
+     * @param elapsedNanos The execution time
+     * @param rows Rows affected by an update, or 0 for queries (rows read are added later)
+     * @param parameters The bind parameters, or null if there were none
+     * @param failed Whether the execution threw an exception
+     * @return The metrics the execution was recorded against
+     */
+    static Metrics record(String sql, long elapsedNanos, long rows, Object[] parameters, boolean failed) {
+        String template = templateOf(sql);
+        Metrics metrics = METRICS.computeIfAbsent(template, key -> new Metrics());
+        metrics.record(elapsedNanos, rows, failed);
+
+        if (elapsedNanos >= DBConfig.SLOW_QUERY_THRESHOLD_MS * 1_000_000L) {
+            // Without the opt-in, keep the template so inline literals are not logged either
+            String loggedSql = DBConfig.SLOW_QUERY_CAPTURE_PARAMETERS
+                    ? WHITESPACE.matcher(sql).replaceAll(" ").trim() : template;
+            SlowQuery slowQuery = new SlowQuery(Instant.now(), loggedSql,
+                    formatParameters(parameters, parameterMode(sql)), elapsedNanos / 1_000_000.0);
+            synchronized (SLOW_QUERIES) {
+                SLOW_QUERIES.addFirst(slowQuery);
+                while (SLOW_QUERIES.size() > DBConfig.SLOW_QUERY_LOG_SIZE) {
+                    SLOW_QUERIES.removeLast();
+                }
+            }
+        }
+        return metrics;
+    }
+
+    /**
+     * Normalizes an SQL string into a template: whitespace is collapsed and
+     * string and numeric literals are replaced with '?'.
+     */
+    static String templateOf(String sql) {
+        String template = TEMPLATES.get(sql);
+        if (template == null) {
+            template = WHITESPACE.matcher(sql).replaceAll(" ").trim();
+            template = STRING_LITERAL.matcher(template).replaceAll("?");
+            template = NUMBER_LITERAL.matcher(template).replaceAll("?");
+            if (TEMPLATES.size() < MAX_CACHED_TEMPLATES) {
+                TEMPLATES.put(sql, template);
+            }
+        }
+        return template;
+    }
+
+    /**
+     * Chooses how much of a statement's bind values the slow query log may keep.
+     */
+    static ParameterMode parameterMode(String sql) {
+        if (SENSITIVE_TABLE.matcher(sql).find()) {
+            return ParameterMode.REDACTED;
+        }
+        return DBConfig.SLOW_QUERY_CAPTURE_PARAMETERS ? ParameterMode.FULL : ParameterMode.MASKED;
+    }
+
+    /**
+     * Formats bind parameters as "[1=value, 2=value]". Masked parameters show numbers, dates,
+     * booleans and NULL, and only the type of any other value; redacted parameters show nothing.
+     */
+    static String formatParameters(Object[] parameters, ParameterMode mode) {
+        if (parameters == null) {
+            return "[]";
+        }
+        if (mode == ParameterMode.REDACTED) {
+            return "[redacted]";
+        }
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 1; i < parameters.length; i++) {
+            if (parameters[i] == null) {
+                continue;
+            }
+            if (sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(i).append('=').append(formatParameter(parameters[i], mode));
+        }
+        return sb.append(']').toString();
+    }
+
+    private static Object formatParameter(Object value, ParameterMode mode) {
+        if (value == InstrumentedConnection.NULL) {
+            return "NULL";
+        }
+        if (mode == ParameterMode.FULL || value instanceof Number || value instanceof Boolean
+                || value instanceof Date || value instanceof Temporal) {
+            return value;
+        }
+        return "<" + value.getClass().getSimpleName() + ">";
+    }
+
+    /**
+     * How much of a statement's bind values the slow query log keeps.
+     */
+    enum ParameterMode {
+        /** Every value, only with {@code DBConfig.SLOW_QUERY_CAPTURE_PARAMETERS}. */
+        FULL,
+        /** Numbers, dates, booleans and NULL; the type of any other value. */
+        MASKED,
+        /** No values at all. */
+        REDACTED
+    }
+
+    /**
+     * Mutable counters for one SQL template.
+     */
+    static final class Metrics {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final LatencyHistogram histogram = new LatencyHistogram();
+
+        void record(long elapsedNanos, long affectedRows, boolean failed) {
+            calls.increment();
+            totalNanos.add(elapsedNanos);
+            rows.add(affectedRows);
+            maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+            histogram.record(elapsedNanos);
+            if (failed) {
+                errors.increment();
+            }
+        }
+
+        void addRows(long rowsRead) {
+            rows.add(rowsRead);
+        }
+
+        StatementStats snapshot(String sql) {
+            return new StatementStats(sql, calls.sum(), errors.sum(), rows.sum(),
+                    totalNanos.sum() / 1_000_000.0, maxNanos.get() / 1_000_000.0,
+                    histogram.percentileMillis(50), histogram.percentileMillis(95), histogram.percentileMillis(99));
+        }
+    }
+}
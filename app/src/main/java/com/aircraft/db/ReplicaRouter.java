@@ -0,0 +1,153 @@
+package com.aircraft.db;
+
+import com.aircraft.config.DBConfig;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides whether a read-only query may run on the read replica configured in
+ * {@link DBConfig#REPLICA_JDBC_URL}.
+ * <p>
+ * The replica is used only while its measured replication lag is within
+ * {@link DBConfig#REPLICA_MAX_LAG_SECONDS}, and not within that window after this
+ * workstation wrote to the primary, so a user always reads back their own changes.
+ * In every other case, including when the replica cannot be reached, callers fall
+ * back to the primary.
+ */
+public class ReplicaRouter {
+
+    private final ConnectionPool replicaPool;
+    private final ScheduledExecutorService lagMonitor;
+
+    // Last measured lag in seconds; -1 while unknown or while replication is broken
+    private volatile long lagSeconds = -1;
+    private volatile long lastWriteMillis;
+
+    private ReplicaRouter(ConnectionPool replicaPool) {
+        this.replicaPool = replicaPool;
+        this.lagMonitor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "db-replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        lagMonitor.scheduleWithFixedDelay(this::measureLag,
+                0, DBConfig.REPLICA_LAG_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Creates a router for the configured replica.
+     *
+     * @return The router, or null if no replica is configured
+     */
+    public static ReplicaRouter fromConfig() {
+        if (DBConfig.REPLICA_JDBC_URL == null || DBConfig.REPLICA_JDBC_URL.isEmpty()) {
+            return null;
+        }
+        return new ReplicaRouter(new ConnectionPool(
+                "replica",
+                DBConfig.REPLICA_JDBC_URL,
+                DBConfig.REPLICA_USERNAME,
+                DBConfig.REPLICA_PASSWORD,
+                DBConfig.REPLICA_POOL_MAX_SIZE,
+                1
+        ));
+    }
+
+    /**
+     * Records that this workstation has just committed a write on the primary.
+     */
+    public void recordWrite() {
+        lastWriteMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * Borrows a replica connection if the replica may serve reads right now.
+     *
+     * @return A read-only replica connection, or null if the caller should use the primary
+     */
+    public Connection getConnection() {
+        long lag = lagSeconds;
+        if (lag < 0 || lag > DBConfig.REPLICA_MAX_LAG_SECONDS) {
+            return null;
+        }
+
+        if (System.currentTimeMillis() - lastWriteMillis < DBConfig.REPLICA_MAX_LAG_SECONDS * 1000L) {
+            // Our own recent write may not have reached the replica yet
+            return null;
+        }
+
+        try {
+            Connection conn = replicaPool.getConnection();
+            conn.setReadOnly(true);
+            return conn;
+        } catch (SQLException e) {
+            System.err.println("Replica unavailable, reading from primary: " + e.getMessage());
+            lagSeconds = -1;
+            return null;
+        }
+    }
+
+    /**
+     * Gets the last measured replication lag.
+     *
+     * @return The lag in seconds, or -1 if unknown or replication is not running
+     */
+    public long getLagSeconds() {
+        return lagSeconds;
+    }
+
+    public PoolStats getPoolStats() {
+        return replicaPool.getStats();
+    }
+
+    public void shutdown() {
+        lagMonitor.shutdownNow();
+        replicaPool.shutdown();
+    }
+
+    /**
+     * Reads the replication lag from the replica. SHOW REPLICA STATUS is tried first
+     * (MySQL 8.0.22+), then the older SHOW SLAVE STATUS.
+     */
+    private void measureLag() {
+        Connection conn = null;
+        try {
+            conn = replicaPool.getConnection();
+            Long lag = readLag(conn, "SHOW REPLICA STATUS", "Seconds_Behind_Source");
+            if (lag == null) {
+                lag = readLag(conn, "SHOW SLAVE STATUS", "Seconds_Behind_Master");
+            }
+            lagSeconds = lag == null ? -1 : lag;
+        } catch (SQLException e) {
+            lagSeconds = -1;
+        } finally {
+            if (conn != null) {
+                try {
+                    conn.close();
+                } catch (SQLException e) {
+                    System.err.println("Error closing replica connection: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static Long readLag(Connection conn, String sql, String column) {
+        try (Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery(sql)) {
+            if (!rs.next()) {
+                // Not configured as a replica
+                return null;
+            }
+            long lag = rs.getLong(column);
+            // NULL means the replication threads are not running
+            return rs.wasNull() ? null : lag;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package com.aircraft.db;
+
+import com.aircraft.util.DBUtil;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Brings the database schema to the version this build expects.
+ * Runs once at startup, before the login screen, so tables, indexes and views never
+ * have to be created or probed for on a user's save path.
+ * <p>
+ * Each migration is an SQL script under {@code /db/migration} and is applied exactly once;
+ * applied versions are recorded in the {@code schema_version} table. A MySQL named lock
+ * stops two workstations that start at the same time from migrating concurrently.
+ * To change the schema, add a new script and register it in {@link #MIGRATIONS};
+ * never edit a script that has already been released.
+ */
+public class SchemaMigrator {
+
+    private static final String MIGRATION_PATH = "/db/migration/";
+    private static final String LOCK_NAME = "manutenzione_am.schema_migration";
+    private static final int LOCK_TIMEOUT_SECONDS = 60;
+
+    // MySQL errors for ADD COLUMN, ADD INDEX and ADD CONSTRAINT with a name that already exists
+    // (ER_DUP_FIELDNAME, ER_DUP_KEYNAME, ER_FK_DUP_NAME)
+    private static final Set<Integer> DUPLICATE_NAME_ERRORS = Set.of(1060, 1061, 1826);
+
+    // Ordered list of every migration; versions must be strictly increasing
+    private static final List<Migration> MIGRATIONS = List.of(
+            new Migration(1, "historical loadout tables", "V1__historical_loadout_tables.sql"),
+            new Migration(2, "hot lookup indexes", "V2__hot_lookup_indexes.sql"),
+            new Migration(3, "launcher life status table", "V3__launcher_life_status_table.sql"),
+            new Migration(4, "launcher remaining life index", "V4__launcher_life_status_remaining_life_index.sql"),
+            new Migration(5, "mission cascade foreign keys", "V5__mission_cascade_foreign_keys.sql",
+                    new Precondition("historical_load rows whose mission no longer exists",
+                            "SELECT COUNT(*) FROM historical_load hl LEFT JOIN missione m ON m.ID = hl.mission_id " +
+                                    "WHERE m.ID IS NULL"),
+                    new Precondition("historical_launcher rows whose mission no longer exists",
+                            "SELECT COUNT(*) FROM historical_launcher hl LEFT JOIN missione m ON m.ID = hl.mission_id " +
+                                    "WHERE m.ID IS NULL"),
+                    new Precondition("missione_posizione_automatica rows whose mission no longer exists",
+                            "SELECT COUNT(*) FROM missione_posizione_automatica mpa " +
+                                    "LEFT JOIN missione m ON m.ID = mpa.ID_Missione WHERE m.ID IS NULL")),
+            new Migration(6, "mission recorded data state", "V6__mission_recorded_data_state.sql")
+    );
+
+    private SchemaMigrator() {
+        // Static utility class
+    }
+
+    /**
+     * Applies all pending migrations.
+     *
+     * @return The number of migrations applied
+     * @throws SQLException If a migration fails; later migrations are not attempted
+     */
+    public static int migrate() throws SQLException {
+        Connection conn = null;
+        int applied = 0;
+
+        try {
+            conn = DBUtil.getConnection();
+            acquireLock(conn);
+
+            try {
+                createVersionTable(conn);
+                int currentVersion = getCurrentVersion(conn);
+
+                for (Migration migration : MIGRATIONS) {
+                    if (migration.version > currentVersion) {
+                        apply(conn, migration);
+                        applied++;
+                    }
+                }
+            } finally {
+                releaseLock(conn);
+            }
+        } finally {
+            DBUtil.closeResources(conn, null, null);
+        }
+
+        if (applied > 0) {
+            System.out.println("Applied " + applied + " schema migration(s), schema is at version " +
+                    MIGRATIONS.get(MIGRATIONS.size() - 1).version);
+        }
+
+        return applied;
+    }
+
+    /**
+     * Gets the schema version this build expects.
+     *
+     * @return The latest migration version
+     */
+    public static int getTargetVersion() {
+        return MIGRATIONS.get(MIGRATIONS.size() - 1).version;
+    }
+
+    private static void acquireLock(Connection conn) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+            stmt.setString(1, LOCK_NAME);
+            stmt.setInt(2, LOCK_TIMEOUT_SECONDS);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (!rs.next() || rs.getInt(1) != 1) {
+                    throw new SQLException("Timed out waiting for another workstation to finish migrating the schema");
+                }
+            }
+        }
+    }
+
+    private static void releaseLock(Connection conn) {
+        try (PreparedStatement stmt = conn.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            stmt.setString(1, LOCK_NAME);
+            stmt.executeQuery().close();
+        } catch (SQLException e) {
+            System.err.println("Error releasing schema migration lock: " + e.getMessage());
+        }
+    }
+
+    private static void createVersionTable(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE IF NOT EXISTS `schema_version` (" +
+                    "  `version` int(11) NOT NULL," +
+                    "  `description` varchar(200) NOT NULL," +
+                    "  `installed_on` timestamp NOT NULL DEFAULT CURRENT_TIMESTAMP," +
+                    "  `execution_ms` int(11) NOT NULL," +
+                    "  PRIMARY KEY (`version`)" +
+                    ") ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci");
+        }
+    }
+
+    private static int getCurrentVersion(Connection conn) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement("SELECT COALESCE(MAX(version), 0) FROM schema_version");
+             ResultSet rs = stmt.executeQuery()) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    /**
+     * Runs every statement of a migration script and records the new version.
+     * MySQL commits DDL implicitly, so a script that fails halfway must be written
+     * to be safe to re-run (IF NOT EXISTS and similar guards). MySQL has no
+     * ADD INDEX IF NOT EXISTS, so a column, index or foreign key whose name already exists is skipped instead.
+     */
+    private static void apply(Connection conn, Migration migration) throws SQLException {
+        long start = System.currentTimeMillis();
+        List<String> statements = parseStatements(readScript(migration.script));
+        checkPreconditions(conn, migration);
+
+        try (Statement stmt = conn.createStatement()) {
+            for (String sql : statements) {
+                try {
+                    stmt.execute(sql);
+                } catch (SQLException e) {
+                    if (!DUPLICATE_NAME_ERRORS.contains(e.getErrorCode())) {
+                        throw e;
+                    }
+                    System.out.println("Note: column, index or constraint already exists, skipped: " + e.getMessage());
+                }
+            }
+        } catch (SQLException e) {
+            throw new SQLException("Schema migration V" + migration.version + " (" + migration.description +
+                    ") failed: " + e.getMessage(), e.getSQLState(), e.getErrorCode(), e);
+        }
+
+        try (PreparedStatement stmt = conn.prepareStatement(
+                "INSERT INTO schema_version (version, description, execution_ms) VALUES (?, ?, ?)")) {
+            stmt.setInt(1, migration.version);
+            stmt.setString(2, migration.description);
+            stmt.setInt(3, (int) (System.currentTimeMillis() - start));
+            stmt.executeUpdate();
+        }
+
+        System.out.println("Applied schema migration V" + migration.version + ": " + migration.description);
+    }
+
+    /**
+     * Counts the rows that would stop a migration, and fails it before any statement runs if there are any.
+     * Data the migration cannot keep is left for someone to review instead of being deleted.
+     */
+    private static void checkPreconditions(Connection conn, Migration migration) throws SQLException {
+        List<String> problems = new ArrayList<>();
+
+        for (Precondition precondition : migration.preconditions) {
+            try (PreparedStatement stmt = conn.prepareStatement(precondition.countSql);
+                 ResultSet rs = stmt.executeQuery()) {
+                long count = rs.next() ? rs.getLong(1) : 0;
+                if (count > 0) {
+                    problems.add(count + " " + precondition.description);
+                }
+            }
+        }
+
+        if (!problems.isEmpty()) {
+            throw new SQLException("Schema migration V" + migration.version + " (" + migration.description +
+                    ") cannot run: " + String.join("; ", problems) +
+                    ". Review these rows and move or delete them, then restart the application.");
+        }
+    }
+
+    private static String readScript(String script) throws SQLException {
+        try (InputStream in = SchemaMigrator.class.getResourceAsStream(MIGRATION_PATH + script)) {
+            if (in == null) {
+                throw new SQLException("Migration script not found: " + MIGRATION_PATH + script);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new SQLException("Error reading migration script " + script, e);
+        }
+    }
+
+    /**
+     * Splits a script into statements. Statements end with a semicolon at the end of a line;
+     * lines starting with "--" are comments.
+     */
+    static List<String> parseStatements(String script) {
+        List<String> statements = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+
+        for (String line : script.split("\r?\n")) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("--")) {
+                continue;
+            }
+
+            current.append(line).append('\n');
+            if (trimmed.endsWith(";")) {
+                String sql = current.toString().trim();
+                statements.add(sql.substring(0, sql.length() - 1));
+                current.setLength(0);
+            }
+        }
+
+        if (current.toString().trim().length() > 0) {
+            statements.add(current.toString().trim());
+        }
+        return statements;
+    }
+
+    /**
+     * A versioned migration script.
+     */
+    private static final class Migration {
+        private final int version;
+        private final String description;
+        private final String script;
+        private final List<Precondition> preconditions;
+
+        Migration(int version, String description, String script, Precondition... preconditions) {
+            this.version = version;
+            this.description = description;
+            this.script = script;
+            this.preconditions = List.of(preconditions);
+        }
+    }
+
+    /**
+     * A count of rows that must be zero before a migration may run.
+     */
+    private static final class Precondition {
+        private final String description;
+        private final String countSql;
+
+        Precondition(String description, String countSql) {
+            this.description = description;
+            this.countSql = countSql;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.aircraft.db;
+
+import java.time.Instant;
+
+/**
+ * A statement execution that took longer than the slow query threshold,
+ * together with the parameter values it was run with, masked as configured in
+ * {@code DBConfig.SLOW_QUERY_CAPTURE_PARAMETERS}.
+ */
+public class SlowQuery {
+    private final Instant executedAt;
+    private final String sql;
+    private final String parameters;
+    private final double elapsedMillis;
+
+    public SlowQuery(Instant executedAt, String sql, String parameters, double elapsedMillis) {
+        this.executedAt = executedAt;
+        this.sql = sql;
+        this.parameters = parameters;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public Instant getExecutedAt() {
+        return executedAt;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * Gets the bind parameters, formatted as "[1=value, 2=value]"; text values are
+     * masked unless full capture is enabled, and statements on the user table show none.
+     *
+     * @return The bind parameters
+     */
+    public String getParameters() {
+        return parameters;
+    }
+
+    public double getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s %.1fms %s %s", executedAt, elapsedMillis, sql, parameters);
+    }
+}
@@ -0,0 +1,86 @@
+package com.aircraft.db;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Least-recently-used cache of prepared statements belonging to one physical connection.
+ * Only statements that are not currently in use are held here: a statement is removed
+ * when it is checked out and put back when the caller closes it, so two callers can never
+ * share the same statement.
+ */
+final class StatementCache {
+
+    private final int capacity;
+
+    // Access-ordered so iteration starts at the least recently used statement
+    private final LinkedHashMap<String, PreparedStatement> available = new LinkedHashMap<>(16, 0.75f, true);
+
+    StatementCache(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Builds the cache key for a statement.
+     *
+     * @param sql The SQL text
+     * @param autoGeneratedKeys The generated keys flag the statement was prepared with
+     * @return The cache key
+     */
+    static String key(String sql, int autoGeneratedKeys) {
+        return autoGeneratedKeys + ":" + sql;
+    }
+
+    /**
+     * Takes a cached statement out of the cache.
+     *
+     * @param key The cache key
+     * @return The statement, or null on a cache miss
+     */
+    synchronized PreparedStatement checkout(String key) throws SQLException {
+        PreparedStatement statement = available.remove(key);
+        if (statement != null && statement.isClosed()) {
+            // Closed behind our back, e.g. through ResultSet.getStatement().close()
+            return null;
+        }
+        return statement;
+    }
+
+    /**
+     * Puts a statement back after use, closing the least recently used statement
+     * if the cache is full.
+     *
+     * @param key The cache key
+     * @param statement The statement to return
+     * @return The number of statements evicted
+     */
+    synchronized int checkin(String key, PreparedStatement statement) {
+        if (capacity <= 0 || available.containsKey(key)) {
+            // Another copy of this statement is already cached
+            closeQuietly(statement);
+            return 1;
+        }
+
+        available.put(key, statement);
+
+        int evicted = 0;
+        Iterator<Map.Entry<String, PreparedStatement>> iterator = available.entrySet().iterator();
+        while (available.size() > capacity && iterator.hasNext()) {
+            closeQuietly(iterator.next().getValue());
+            iterator.remove();
+            evicted++;
+        }
+        return evicted;
+    }
+
+    private static void closeQuietly(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            System.err.println("Error closing cached statement: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.aircraft.db;
+
+/**
+ * Immutable snapshot of the metrics recorded for one SQL template.
+ * Obtained from {@link QueryStatistics#getStatementStats()}.
+ */
+public class StatementStats {
+    private final String sql;
+    private final long calls;
+    private final long errors;
+    private final long rows;
+    private final double totalMillis;
+    private final double maxMillis;
+    private final double p50Millis;
+    private final double p95Millis;
+    private final double p99Millis;
+
+    public StatementStats(String sql, long calls, long errors, long rows, double totalMillis,
+                          double maxMillis, double p50Millis, double p95Millis, double p99Millis) {
+        this.sql = sql;
+        this.calls = calls;
+        this.errors = errors;
+        this.rows = rows;
+        this.totalMillis = totalMillis;
+        this.maxMillis = maxMillis;
+        this.p50Millis = p50Millis;
+        this.p95Millis = p95Millis;
+        this.p99Millis = p99Millis;
+    }
+
+    /**
+     * Gets the normalized SQL template, with literals replaced by '?'.
+     *
+     * @return The SQL template
+     */
+    public String getSql() {
+        return sql;
+    }
+
+    public long getCalls() {
+        return calls;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    /**
+     * Gets the rows read from result sets, or affected by updates, across all calls.
+     *
+     * @return The total number of rows
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    public double getTotalMillis() {
+        return totalMillis;
+    }
+
+    public double getMeanMillis() {
+        return calls == 0 ? 0 : totalMillis / calls;
+    }
+
+    public double getMaxMillis() {
+        return maxMillis;
+    }
+
+    public double getP50Millis() {
+        return p50Millis;
+    }
+
+    public double getP95Millis() {
+        return p95Millis;
+    }
+
+    public double getP99Millis() {
+        return p99Millis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("calls=%d errors=%d rows=%d total=%.1fms mean=%.2fms p50=%.2fms p95=%.2fms p99=%.2fms max=%.2fms  %s",
+                calls, errors, rows, totalMillis, getMeanMillis(), p50Millis, p95Millis, p99Millis, maxMillis, sql);
+    }
+}
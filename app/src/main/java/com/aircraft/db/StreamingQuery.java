@@ -0,0 +1,147 @@
+package com.aircraft.db;
+
+import com.aircraft.config.DBConfig;
+import com.aircraft.util.DBUtil;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Runs a query whose rows are read lazily from a MySQL streaming cursor, so exports and
+ * analytics over whole tables run in constant memory instead of building a list first.
+ * <p>
+ * The returned stream owns the connection, statement and result set, and releases them when
+ * it is closed or fully consumed. Always close it, e.g. with try-with-resources:
+ * <pre>
+ * try (Stream&lt;Mission&gt; missions = missionDAO.streamAll()) {
+ *     missions.forEach(writer::write);
+ * }
+ * </pre>
+ * While the stream is open its connection cannot run other statements, so do not issue
+ * further queries on the same connection (or inside the same {@link UnitOfWork}) until it is closed.
+ * A database error while reading rows is thrown as an {@link IllegalStateException}, so a
+ * partial export is never mistaken for a complete one.
+ */
+public final class StreamingQuery {
+
+    private StreamingQuery() {
+        // Static utility class
+    }
+
+    /**
+     * Sets the parameters of a streamed query.
+     */
+    @FunctionalInterface
+    public interface Parameters {
+        void bind(PreparedStatement stmt) throws SQLException;
+    }
+
+    /**
+     * Creates one object from the current row of a result set.
+     */
+    @FunctionalInterface
+    public interface RowReader<T> {
+        T read(ResultSet rs) throws SQLException;
+    }
+
+    /**
+     * Runs a query without parameters and streams its rows.
+     *
+     * @param conn The connection to run the query on; the stream closes it
+     * @param sql The query
+     * @param reader Creates an object from each row
+     * @param <T> The row type
+     * @return A lazily-read stream of rows that must be closed
+     * @throws SQLException If the query cannot be run; the connection is closed before this is thrown
+     */
+    public static <T> Stream<T> stream(Connection conn, String sql, RowReader<T> reader) throws SQLException {
+        return stream(conn, sql, null, reader);
+    }
+
+    /**
+     * Runs a query and streams its rows.
+     *
+     * @param conn The connection to run the query on; the stream closes it
+     * @param sql The query
+     * @param parameters Sets the query parameters, or null if there are none
+     * @param reader Creates an object from each row
+     * @param <T> The row type
+     * @return A lazily-read stream of rows that must be closed
+     * @throws SQLException If the query cannot be run; the connection is closed before this is thrown
+     */
+    public static <T> Stream<T> stream(Connection conn, String sql, Parameters parameters,
+                                       RowReader<T> reader) throws SQLException {
+        PreparedStatement stmt = null;
+        ResultSet rs = null;
+
+        try {
+            // Forward-only, read-only and the streaming fetch size make Connector/J read rows on demand
+            stmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            stmt.setFetchSize(DBConfig.STREAMING_FETCH_SIZE);
+            if (parameters != null) {
+                parameters.bind(stmt);
+            }
+            rs = stmt.executeQuery();
+        } catch (SQLException | RuntimeException e) {
+            DBUtil.closeResources(conn, stmt, rs);
+            throw e;
+        }
+
+        Cursor<T> cursor = new Cursor<>(conn, stmt, rs, reader);
+        return StreamSupport.stream(cursor, false).onClose(cursor::close);
+    }
+
+    /**
+     * Spliterator that reads one row per advance and closes its resources at the end of the rows.
+     */
+    private static final class Cursor<T> extends Spliterators.AbstractSpliterator<T> {
+        private final Connection conn;
+        private final PreparedStatement stmt;
+        private final ResultSet rs;
+        private final RowReader<T> reader;
+        private boolean closed;
+
+        Cursor(Connection conn, PreparedStatement stmt, ResultSet rs, RowReader<T> reader) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.conn = conn;
+            this.stmt = stmt;
+            this.rs = rs;
+            this.reader = reader;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (closed) {
+                return false;
+            }
+
+            try {
+                if (!rs.next()) {
+                    // Release the connection as soon as the rows run out, even if the caller never closes
+                    close();
+                    return false;
+                }
+                action.accept(reader.read(rs));
+                return true;
+            } catch (SQLException e) {
+                System.err.println("Error reading streamed rows: " + e.getMessage());
+                close();
+                throw new IllegalStateException("Error reading streamed rows: " + e.getMessage(), e);
+            }
+        }
+
+        void close() {
+            if (!closed) {
+                closed = true;
+                DBUtil.closeResources(conn, stmt, rs);
+            }
+        }
+    }
+}
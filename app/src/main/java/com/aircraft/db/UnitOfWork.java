@@ -0,0 +1,294 @@
+package com.aircraft.db;
+
+import com.aircraft.util.DBUtil;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * Transaction scope that binds one connection to the current thread, so that every
+ * DAO call made inside it shares that connection and the work is committed once.
+ * <p>
+ * While a unit of work is active, {@code DBUtil.getConnection()} and
+ * {@code DBUtil.getReadConnection()} return the bound connection. Closing it is a no-op,
+ * and {@code commit}, {@code rollback} and {@code setAutoCommit} are left to the scope:
+ * a DAO that calls {@code rollback} or whose statement fails marks the scope
+ * rollback-only, because the DAOs report errors by returning false rather than throwing.
+ * <pre>
+ * try (UnitOfWork work = UnitOfWork.begin()) {
+ *     missionDAO.insert(mission);
+ *     List&lt;Mission&gt; latest = missionDAO.getLatestMissions(1);
+ *     work.commit();
+ * }
+ * </pre>
+ * Beginning a unit of work while one is already active joins the outer one: the inner
+ * {@link #commit()} does nothing and only the outermost scope commits or rolls back.
+ * The scope must be closed on the thread that began it.
+ */
+public final class UnitOfWork implements AutoCloseable {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private final Scope scope;
+    private final boolean outermost;
+    private boolean completed;
+
+    private UnitOfWork(Scope scope, boolean outermost) {
+        this.scope = scope;
+        this.outermost = outermost;
+    }
+
+    /**
+     * Begins a unit of work on the current thread, or joins the one already active.
+     *
+     * @return The unit of work, to be closed with try-with-resources
+     */
+    public static UnitOfWork begin() throws SQLException {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            return new UnitOfWork(scope, false);
+        }
+
+        Connection physical = DBUtil.getConnection();
+        try {
+            physical.setAutoCommit(false);
+        } catch (SQLException e) {
+            physical.close();
+            throw e;
+        }
+
+        scope = new Scope(physical);
+        CURRENT.set(scope);
+        return new UnitOfWork(scope, true);
+    }
+
+    /**
+     * Gets the connection bound to the current thread.
+     *
+     * @return The shared connection, or null if no unit of work is active
+     */
+    public static Connection currentConnection() {
+        Scope scope = CURRENT.get();
+        return scope == null ? null : scope.shared;
+    }
+
+    /**
+     * Checks whether a unit of work is active on the current thread.
+     */
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * Marks the whole unit of work, including any outer scope it joined, to be rolled back.
+     */
+    public void setRollbackOnly() {
+        scope.rollbackOnly = true;
+    }
+
+    /**
+     * Checks whether the unit of work will be rolled back.
+     */
+    public boolean isRollbackOnly() {
+        return scope.rollbackOnly;
+    }
+
+    /**
+     * Commits the work. In a joined scope this only marks the scope as completed;
+     * the outermost scope commits.
+     *
+     * @throws SQLException If the commit fails or the work was marked rollback-only,
+     *                      in which case it has been rolled back
+     */
+    public void commit() throws SQLException {
+        if (completed) {
+            throw new SQLException("Unit of work already completed");
+        }
+        completed = true;
+
+        if (!outermost) {
+            if (scope.rollbackOnly) {
+                throw new SQLException("Unit of work was marked rollback-only");
+            }
+            return;
+        }
+
+        if (scope.rollbackOnly) {
+            scope.physical.rollback();
+            throw new SQLException("Unit of work was marked rollback-only and has been rolled back");
+        }
+
+        try {
+            scope.physical.commit();
+        } catch (SQLException e) {
+            scope.rollbackOnly = true;
+            rollbackQuietly();
+            throw e;
+        }
+    }
+
+    /**
+     * Ends the scope. An outermost scope that was not committed is rolled back, and the
+     * connection is returned to the pool; a joined scope that was not committed marks
+     * the outer scope rollback-only.
+     */
+    @Override
+    public void close() {
+        if (!outermost) {
+            if (!completed) {
+                scope.rollbackOnly = true;
+            }
+            return;
+        }
+
+        CURRENT.remove();
+        if (!completed) {
+            rollbackQuietly();
+        }
+        try {
+            scope.physical.setAutoCommit(true);
+        } catch (SQLException e) {
+            System.err.println("Error resetting auto-commit: " + e.getMessage());
+        }
+        try {
+            scope.physical.close();
+        } catch (SQLException e) {
+            System.err.println("Error closing unit of work connection: " + e.getMessage());
+        }
+    }
+
+    private void rollbackQuietly() {
+        try {
+            scope.physical.rollback();
+        } catch (SQLException e) {
+            System.err.println("Error rolling back unit of work: " + e.getMessage());
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * State shared by an outermost unit of work and the scopes that joined it.
+     */
+    private static final class Scope {
+        private final Connection physical;
+        private final Connection shared;
+        private volatile boolean rollbackOnly;
+
+        Scope(Connection physical) {
+            this.physical = physical;
+            this.shared = (Connection) Proxy.newProxyInstance(
+                    UnitOfWork.class.getClassLoader(),
+                    new Class<?>[] {Connection.class},
+                    new SharedConnectionHandler(this));
+        }
+    }
+
+    /**
+     * Connection given to DAOs inside a unit of work. Transaction control and close are
+     * owned by the scope; statement failures mark the scope rollback-only.
+     */
+    private static final class SharedConnectionHandler implements InvocationHandler {
+        private final Scope scope;
+
+        SharedConnectionHandler(Scope scope) {
+            this.scope = scope;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                case "commit":
+                case "setAutoCommit":
+                    return null;
+                case "getAutoCommit":
+                    return false;
+                case "isClosed":
+                    return scope.physical.isClosed();
+                case "rollback":
+                    if (args == null) {
+                        scope.rollbackOnly = true;
+                        return null;
+                    }
+                    break;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "UnitOfWork[" + scope.physical + "]";
+                default:
+                    break;
+            }
+
+            Object result;
+            try {
+                result = UnitOfWork.invoke(scope.physical, method, args);
+            } catch (SQLException e) {
+                scope.rollbackOnly = true;
+                throw e;
+            }
+
+            Class<?> returnType = method.getReturnType();
+            if (result != null && Statement.class.isAssignableFrom(returnType)) {
+                return Proxy.newProxyInstance(
+                        UnitOfWork.class.getClassLoader(),
+                        new Class<?>[] {returnType},
+                        new StatementHandler((Statement) result, (Connection) proxy, scope));
+            }
+            return result;
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+        private final Statement delegate;
+        private final Connection connection;
+        private final Scope scope;
+
+        StatementHandler(Statement delegate, Connection connection, Scope scope) {
+            this.delegate = delegate;
+            this.connection = connection;
+            this.scope = scope;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "getConnection":
+                    return connection;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+
+            if (!EXECUTE_METHODS.contains(method.getName())) {
+                return UnitOfWork.invoke(delegate, method, args);
+            }
+            try {
+                return UnitOfWork.invoke(delegate, method, args);
+            } catch (SQLException e) {
+                scope.rollbackOnly = true;
+                throw e;
+            }
+        }
+    }
+}
@@ -1,10 +1,15 @@
 package com.aircraft.model;
 
+import com.aircraft.model.mapping.Column;
+import com.aircraft.model.mapping.Table;
+
 /**
  * Model class representing an aircraft in the system.
  * Corresponds to the 'matricola_velivolo' table in the database.
  */
+@Table("matricola_velivolo")
 public class Aircraft {
+    @Column(value = "MatricolaVelivolo", key = true)
     private String matricolaVelivolo;
 
     /**
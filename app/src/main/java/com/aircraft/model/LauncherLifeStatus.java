@@ -1,19 +1,32 @@
 package com.aircraft.model;
 
+import com.aircraft.model.mapping.Column;
+import com.aircraft.model.mapping.Table;
+
 import java.math.BigDecimal;
 
 /**
  * Model class representing launcher life status information.
- * Corresponds to the 'vista_stato_vita_lanciatore' view in the database.
+ * Corresponds to the 'stato_vita_lanciatore' table, which holds the materialized
+ * rows of the 'vista_stato_vita_lanciatore' view.
  */
+@Table(value = "stato_vita_lanciatore", readOnly = true)
 public class LauncherLifeStatus {
+    @Column("Nome_Lanciatore")
     private String nomeLanciatore;
+    @Column("Lanciatore_PartNumber")
     private String partNumber;
+    @Column("Lanciatore_SerialNumber")
     private String serialNumber;
+    @Column("Numero_Missioni")
     private int numeroMissioni;
+    @Column("Missioni_con_Sparo")
     private int missioniConSparo;
+    @Column("Missioni_senza_Sparo")
     private int missioniSenzaSparo;
+    @Column("Ore_di_Volo_Totali")
     private BigDecimal oreVoloTotali;
+    @Column("Vita_Residua_Percentuale")
     private double vitaResiduaPercentuale;
 
     /**
@@ -0,0 +1,133 @@
+package com.aircraft.model;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Model class representing the hardpoint configuration of a mission.
+ * Corresponds to the mission's rows in the 'historical_load' (weapons) and
+ * 'historical_launcher' (launchers) tables.
+ * <p>
+ * Positions are held in the same form the weapon configuration screens use: each position
+ * code maps to an item with a "type" ("weapon" or "launcher"), an "id" (part number)
+ * and a "serialNumber".
+ */
+public class Loadout {
+    public static final String TYPE_WEAPON = "weapon";
+    public static final String TYPE_LAUNCHER = "launcher";
+
+    public static final String KEY_TYPE = "type";
+    public static final String KEY_ID = "id";
+    public static final String KEY_SERIAL_NUMBER = "serialNumber";
+
+    private final int missionId;
+    private final Map<String, Map<String, String>> positions = new LinkedHashMap<>();
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param missionId The mission ID
+     */
+    public Loadout(int missionId) {
+        this.missionId = missionId;
+    }
+
+    /**
+     * Gets the mission ID.
+     *
+     * @return The mission ID
+     */
+    public int getMissionId() {
+        return missionId;
+    }
+
+    /**
+     * Gets the items by position code.
+     *
+     * @return The positions map
+     */
+    public Map<String, Map<String, String>> getPositions() {
+        return positions;
+    }
+
+    /**
+     * Puts an item on a position, replacing any item already there.
+     *
+     * @param position The position code
+     * @param type The item type, {@link #TYPE_WEAPON} or {@link #TYPE_LAUNCHER}
+     * @param id The part number of the item
+     * @param serialNumber The serial number of the item
+     */
+    public void put(String position, String type, String id, String serialNumber) {
+        Map<String, String> item = new LinkedHashMap<>();
+        item.put(KEY_TYPE, type);
+        item.put(KEY_ID, id);
+        item.put(KEY_SERIAL_NUMBER, serialNumber);
+        positions.put(position, item);
+    }
+
+    /**
+     * Checks whether no position is loaded.
+     *
+     * @return true if the mission has no hardpoint configuration
+     */
+    public boolean isEmpty() {
+        return positions.isEmpty();
+    }
+
+    /**
+     * Gets the number of weapons loaded.
+     *
+     * @return The weapon count
+     */
+    public int getWeaponCount() {
+        return count(TYPE_WEAPON);
+    }
+
+    /**
+     * Gets the number of launchers loaded.
+     *
+     * @return The launcher count
+     */
+    public int getLauncherCount() {
+        return count(TYPE_LAUNCHER);
+    }
+
+    /**
+     * Gets a short description for a mission table column, e.g. "4 weapons, 2 launchers".
+     *
+     * @return The loadout summary
+     */
+    public String getSummary() {
+        if (isEmpty()) {
+            return "Not configured";
+        }
+        int weapons = getWeaponCount();
+        int launchers = getLauncherCount();
+        return weapons + (weapons == 1 ? " weapon, " : " weapons, ") +
+                launchers + (launchers == 1 ? " launcher" : " launchers");
+    }
+
+    private int count(String type) {
+        int count = 0;
+        for (Map<String, String> item : positions.values()) {
+            if (type.equals(item.get(KEY_TYPE))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns a string representation of the Loadout object.
+     *
+     * @return A string representation of the Loadout
+     */
+    @Override
+    public String toString() {
+        return "Loadout{" +
+                "missionId=" + missionId +
+                ", positions=" + positions +
+                '}';
+    }
+}
@@ -1,5 +1,8 @@
 package com.aircraft.model;
 
+import com.aircraft.model.mapping.Column;
+import com.aircraft.model.mapping.Table;
+
 import java.sql.Date;
 import java.sql.Time;
 
@@ -7,12 +10,19 @@ import java.sql.Time;
  * Model class representing a mission in the system.
  * Corresponds to the 'missione' table in the database.
  */
+@Table("missione")
 public class Mission {
+    @Column(value = "ID", key = true, generated = true)
     private int id;
+    @Column("MatricolaVelivolo")
     private String matricolaVelivolo;
+    @Column("DataMissione")
     private Date dataMissione;
+    @Column("NumeroVolo")
     private int numeroVolo;
+    @Column("OraPartenza")
     private Time oraPartenza;
+    @Column("OraArrivo")
     private Time oraArrivo;
 
     /**
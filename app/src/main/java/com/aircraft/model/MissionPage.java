@@ -0,0 +1,96 @@
+package com.aircraft.model;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * One page of missions, ordered newest first by mission date and then by ID.
+ * The cursor identifies the last mission on the page; passing it back to the DAO
+ * returns the page that follows, however deep into the history it is.
+ */
+public class MissionPage {
+    private final List<Mission> missions;
+    private final String nextCursor;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param missions The missions on this page
+     * @param nextCursor The cursor of the following page, or null if this is the last page
+     */
+    public MissionPage(List<Mission> missions, String nextCursor) {
+        this.missions = List.copyOf(missions);
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Gets the missions on this page.
+     *
+     * @return An unmodifiable list of missions
+     */
+    public List<Mission> getMissions() {
+        return missions;
+    }
+
+    /**
+     * Gets the cursor to pass back to the DAO for the following page.
+     *
+     * @return The cursor, or null if this is the last page
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    /**
+     * Checks whether there are more missions after this page.
+     *
+     * @return true if another page follows
+     */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * Creates the cursor that continues after the given mission.
+     *
+     * @param mission The last mission of a page
+     * @return An opaque, URL-safe cursor
+     */
+    public static String cursorAfter(Mission mission) {
+        String key = mission.getDataMissione() + "|" + mission.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes the mission date stored in a cursor.
+     *
+     * @param cursor A cursor created by {@link #cursorAfter(Mission)}
+     * @return The mission date of the last mission on the previous page
+     * @throws IllegalArgumentException If the cursor is not valid
+     */
+    public static Date cursorDate(String cursor) {
+        return Date.valueOf(decode(cursor)[0]);
+    }
+
+    /**
+     * Decodes the mission ID stored in a cursor.
+     *
+     * @param cursor A cursor created by {@link #cursorAfter(Mission)}
+     * @return The ID of the last mission on the previous page
+     * @throws IllegalArgumentException If the cursor is not valid
+     */
+    public static int cursorId(String cursor) {
+        return Integer.parseInt(decode(cursor)[1]);
+    }
+
+    private static String[] decode(String cursor) {
+        String key = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        String[] parts = key.split("\\|", -1);
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Invalid mission cursor: " + cursor);
+        }
+        return parts;
+    }
+}
@@ -1,20 +1,33 @@
 package com.aircraft.model;
 
+import com.aircraft.model.mapping.Column;
+import com.aircraft.model.mapping.Table;
+
 import java.math.BigDecimal;
 
 /**
  * Model class representing recorded flight data in the system.
  * Corresponds to the 'dati_registrati' table in the database.
  */
+@Table("dati_registrati")
 public class RecordedData {
+    @Column(value = "ID", key = true, generated = true)
     private int id;
+    @Column("MatricolaVelivolo")
     private String matricolaVelivolo;
+    @Column("NumeroVolo")
     private int numeroVolo;
+    @Column("GloadMax")
     private BigDecimal gloadMax;
+    @Column("GloadMin")
     private BigDecimal gloadMin;
+    @Column("QuotaMedia")
     private Integer quotaMedia;
+    @Column("VelocitaMassima")
     private Integer velocitaMassima;
+    @Column("StatoMissili")
     private String statoMissili;
+    @Column("StatoElaborato")
     private boolean statoElaborato;
 
     /**
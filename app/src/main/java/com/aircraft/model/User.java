@@ -1,12 +1,19 @@
 package com.aircraft.model;
 
+import com.aircraft.model.mapping.Column;
+import com.aircraft.model.mapping.Table;
+
 /**
  * Model class representing a user in the system.
  * Corresponds to the 'utenti' table in the database.
  */
+@Table(value = "utenti", readOnly = true)
 public class User {
+    @Column(value = "id", key = true, generated = true)
     private int id;
+    @Column("username")
     private String username;
+    // Not mapped: passwords are only compared in SQL, never read back
     private String password;
 
     /**
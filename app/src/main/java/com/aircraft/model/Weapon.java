@@ -1,15 +1,23 @@
 package com.aircraft.model;
 
+import com.aircraft.model.mapping.Column;
+import com.aircraft.model.mapping.Table;
+
 import java.math.BigDecimal;
 
 /**
  * Model class representing a weapon in the system.
  * Corresponds to the 'anagrafica_carichi' table in the database.
  */
+@Table("anagrafica_carichi")
 public class Weapon {
+    @Column(value = "PartNumber", key = true)
     private String partNumber;
+    @Column("Nomenclatura")
     private String nomenclatura;
+    @Column("CodiceDitta")
     private String codiceDitta;
+    @Column("Massa")
     private BigDecimal massa;
 
     /**
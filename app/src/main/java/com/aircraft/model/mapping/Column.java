@@ -0,0 +1,38 @@
+package com.aircraft.model.mapping;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maps a model field to a column of its {@link Table}.
+ * Columns are selected, read and bound in field declaration order. The field must have a
+ * public getter and setter following the JavaBeans naming convention.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.FIELD)
+public @interface Column {
+
+    /**
+     * The column name.
+     *
+     * @return The column name
+     */
+    String value();
+
+    /**
+     * Whether the column is part of the primary key. Key columns identify the row in updates.
+     *
+     * @return True for a primary key column
+     */
+    boolean key() default false;
+
+    /**
+     * Whether the database generates the value, as for an AUTO_INCREMENT key.
+     * Generated columns are left out of inserts.
+     *
+     * @return True for a database-generated column
+     */
+    boolean generated() default false;
+}
@@ -0,0 +1,31 @@
+package com.aircraft.model.mapping;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maps a model class to a table or view.
+ * At compile time a {@code <Model>RowMapper} class is generated next to the model, with the
+ * column lists and the ResultSet-to-model and model-to-PreparedStatement code for every
+ * field annotated with {@link Column}. Nothing is read by reflection at runtime.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface Table {
+
+    /**
+     * The table or view name.
+     *
+     * @return The table name
+     */
+    String value();
+
+    /**
+     * Whether the mapping is read only, as for a view. No binders are generated for it.
+     *
+     * @return True if the table is never written through its model
+     */
+    boolean readOnly() default false;
+}
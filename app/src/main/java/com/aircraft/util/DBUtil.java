@@ -0,0 +1,155 @@
+package com.aircraft.util;
+
+import com.aircraft.config.DBConfig;
+import com.aircraft.db.ConnectionPool;
+import com.aircraft.db.DatabaseMonitor;
+import com.aircraft.db.InstrumentedConnection;
+import com.aircraft.db.PoolStats;
+import com.aircraft.db.QueryStatistics;
+import com.aircraft.db.ReplicaRouter;
+import com.aircraft.db.UnitOfWork;
+
+import java.sql.*;
+import java.util.Collection;
+
+/**
+ * Utility class for database operations.
+ */
+public class DBUtil {
+
+    // Shared pool behind getConnection(), created on first use
+    private static volatile ConnectionPool pool;
+
+    // Routes reporting reads to the read replica; null when no replica is configured
+    private static volatile ReplicaRouter replicaRouter;
+
+    /**
+     * Gets a connection to the database.
+     * The connection is borrowed from the shared pool; closing it returns it to the pool.
+     * Statements run through it are recorded in {@link QueryStatistics}.
+     * Inside a {@link UnitOfWork} the connection bound to the current thread is returned instead.
+     */
+    public static Connection getConnection() throws SQLException {
+        Connection bound = UnitOfWork.currentConnection();
+        if (bound != null) {
+            return bound;
+        }
+        Connection conn = getPool().getConnection();
+        return DBConfig.QUERY_INSTRUMENTATION_ENABLED ? InstrumentedConnection.wrap(conn) : conn;
+    }
+
+    /**
+     * Gets a connection for a read-only query that tolerates slightly stale data,
+     * such as a list or report screen.
+     * Uses the read replica when one is configured, its lag is acceptable and this
+     * workstation has not written recently; otherwise returns a primary connection.
+     * Never use it for reads that must see a write made moments before.
+     * Inside a {@link UnitOfWork} the connection bound to the current thread is returned instead.
+     */
+    public static Connection getReadConnection() throws SQLException {
+        Connection bound = UnitOfWork.currentConnection();
+        if (bound != null) {
+            return bound;
+        }
+        getPool();
+        ReplicaRouter router = replicaRouter;
+        Connection conn = router != null ? router.getConnection() : null;
+        if (conn == null) {
+            return getConnection();
+        }
+        return DBConfig.QUERY_INSTRUMENTATION_ENABLED ? InstrumentedConnection.wrap(conn) : conn;
+    }
+
+    /**
+     * Pre-fills the connection pool and prepares the given statements on the idle connections.
+     *
+     * @param statements Read-only SQL to prepare, exactly as the DAOs write it
+     */
+    public static void warmUp(Collection<String> statements) throws SQLException {
+        getPool().warmUp(statements);
+    }
+
+    /**
+     * Gets a snapshot of the connection pool statistics.
+     *
+     * @return The current pool statistics
+     */
+    public static PoolStats getPoolStats() throws SQLException {
+        return getPool().getStats();
+    }
+
+    /**
+     * Closes every pooled connection. Called when the application exits.
+     */
+    public static synchronized void shutdown() {
+        if (replicaRouter != null) {
+            replicaRouter.shutdown();
+            replicaRouter = null;
+        }
+        if (pool != null) {
+            pool.shutdown();
+            pool = null;
+        }
+    }
+
+    /**
+     * Gets the shared connection pool, loading the JDBC driver and creating the pool on first use.
+     */
+    private static ConnectionPool getPool() throws SQLException {
+        ConnectionPool current = pool;
+        if (current != null) {
+            return current;
+        }
+
+        synchronized (DBUtil.class) {
+            if (pool == null) {
+                try {
+                    // Load the JDBC driver
+                    Class.forName(DBConfig.DRIVER_CLASS);
+                } catch (ClassNotFoundException e) {
+                    System.err.println("JDBC Driver not found: " + e.getMessage());
+                    throw new SQLException("JDBC Driver not found", e);
+                }
+
+                pool = new ConnectionPool(
+                        "primary",
+                        DBConfig.JDBC_URL,
+                        DBConfig.USERNAME,
+                        DBConfig.PASSWORD,
+                        DBConfig.POOL_MAX_SIZE,
+                        DBConfig.POOL_MIN_IDLE
+                );
+                replicaRouter = ReplicaRouter.fromConfig();
+                if (replicaRouter != null) {
+                    pool.setWriteListener(replicaRouter::recordWrite);
+                }
+                DatabaseMonitor.register();
+            }
+            return pool;
+        }
+    }
+
+    /**
+     * Closes database resources safely.
+     */
+    public static void closeResources(Connection conn, Statement stmt, ResultSet rs) {
+        try {
+            if (rs != null) rs.close();
+        } catch (SQLException e) {
+            System.err.println("Error closing ResultSet: " + e.getMessage());
+        }
+
+        try {
+            if (stmt != null) stmt.close();
+        } catch (SQLException e) {
+            System.err.println("Error closing Statement: " + e.getMessage());
+        }
+
+        try {
+            // For pooled connections this returns the connection to the pool
+            if (conn != null) conn.close();
+        } catch (SQLException e) {
+            System.err.println("Error closing Connection: " + e.getMessage());
+        }
+    }
+}
\ No newline at end of file
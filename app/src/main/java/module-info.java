@@ -2,6 +2,7 @@ module com.aircraft {
     requires javafx.controls;
     requires javafx.fxml;
     requires java.sql;
+    requires java.management;
     requires javafx.graphics;
     requires javafx.base;
 
@@ -15,4 +16,7 @@ module com.aircraft {
     exports com.aircraft;
     exports com.aircraft.controller;
     exports com.aircraft.model;
+
+    // Database statistics are published as a platform MXBean
+    exports com.aircraft.db to java.management;
 }
\ No newline at end of file
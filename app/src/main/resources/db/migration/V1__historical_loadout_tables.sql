@@ -0,0 +1,22 @@
+-- Loadout history tables, previously created on first save by MissionManagementController.
+-- IF NOT EXISTS keeps this safe on databases where the controller already created them.
+
+CREATE TABLE IF NOT EXISTS `historical_load` (
+  `id` int(11) NOT NULL AUTO_INCREMENT,
+  `mission_id` int(11) NOT NULL,
+  `position` varchar(20) NOT NULL,
+  `weapon_id` varchar(50) NOT NULL,
+  `serial_number` varchar(50) NOT NULL,
+  PRIMARY KEY (`id`),
+  KEY `mission_id` (`mission_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
+
+CREATE TABLE IF NOT EXISTS `historical_launcher` (
+  `id` int(11) NOT NULL AUTO_INCREMENT,
+  `mission_id` int(11) NOT NULL,
+  `position` varchar(20) NOT NULL,
+  `launcher_id` varchar(50) NOT NULL,
+  `serial_number` varchar(50) NOT NULL,
+  PRIMARY KEY (`id`),
+  KEY `mission_id` (`mission_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
@@ -0,0 +1,16 @@
+-- Indexes behind the hot lookups: missions and recorded data by aircraft and flight number,
+-- missions by date (newest-first lists and keyset pages), and loadout history by serial number
+-- for the launcher life status. historical_*(mission_id) is created by V1.
+-- A re-run after a partial failure skips indexes that already exist (see SchemaMigrator).
+
+ALTER TABLE `missione` ADD INDEX `ix_missione_aircraft_flight` (`MatricolaVelivolo`, `NumeroVolo`);
+
+ALTER TABLE `missione` ADD INDEX `ix_missione_date` (`DataMissione`);
+
+ALTER TABLE `missione` ADD INDEX `ix_missione_aircraft_date` (`MatricolaVelivolo`, `DataMissione`);
+
+ALTER TABLE `dati_registrati` ADD INDEX `ix_dati_registrati_aircraft_flight` (`MatricolaVelivolo`, `NumeroVolo`);
+
+ALTER TABLE `historical_load` ADD INDEX `ix_historical_load_serial` (`serial_number`);
+
+ALTER TABLE `historical_launcher` ADD INDEX `ix_historical_launcher_serial` (`serial_number`);
@@ -0,0 +1,24 @@
+-- Materialized launcher life status, one row per launcher serial number.
+-- vista_stato_vita_lanciatore recomputes every launcher's history on each read; this table keeps
+-- its result and is refreshed per serial number by LauncherDAO when a loadout or PFMD data is saved.
+-- REPLACE keeps the initial fill safe to re-run.
+
+CREATE TABLE IF NOT EXISTS `stato_vita_lanciatore` (
+  `Lanciatore_SerialNumber` varchar(50) NOT NULL,
+  `Nome_Lanciatore` varchar(100) DEFAULT NULL,
+  `Lanciatore_PartNumber` varchar(50) DEFAULT NULL,
+  `Numero_Missioni` int(11) NOT NULL DEFAULT 0,
+  `Missioni_con_Sparo` int(11) NOT NULL DEFAULT 0,
+  `Missioni_senza_Sparo` int(11) NOT NULL DEFAULT 0,
+  `Ore_di_Volo_Totali` decimal(10,2) NOT NULL DEFAULT 0,
+  `Vita_Residua_Percentuale` double NOT NULL DEFAULT 0,
+  `aggiornato_il` timestamp NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+  PRIMARY KEY (`Lanciatore_SerialNumber`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
+
+REPLACE INTO `stato_vita_lanciatore` (`Lanciatore_SerialNumber`, `Nome_Lanciatore`, `Lanciatore_PartNumber`,
+    `Numero_Missioni`, `Missioni_con_Sparo`, `Missioni_senza_Sparo`, `Ore_di_Volo_Totali`, `Vita_Residua_Percentuale`)
+SELECT `Lanciatore_SerialNumber`, `Nome_Lanciatore`, `Lanciatore_PartNumber`,
+    `Numero_Missioni`, `Missioni_con_Sparo`, `Missioni_senza_Sparo`, `Ore_di_Volo_Totali`, `Vita_Residua_Percentuale`
+FROM `vista_stato_vita_lanciatore`
+WHERE `Lanciatore_SerialNumber` IS NOT NULL;
@@ -0,0 +1,4 @@
+-- Serves the "closest to end-of-life" list (LauncherDAO.getLauncherLifeStatusesByRemainingLife)
+-- as an index range read instead of a sort of every launcher.
+
+ALTER TABLE `stato_vita_lanciatore` ADD INDEX `ix_stato_vita_lanciatore_vita_residua` (`Vita_Residua_Percentuale`);
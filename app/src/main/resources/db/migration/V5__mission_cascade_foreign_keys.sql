@@ -0,0 +1,14 @@
+-- Rows that belong to a mission are removed with it by the database (ON DELETE CASCADE),
+-- so deleting missions is one statement however many rows hang off them.
+-- Rows left behind by earlier deletes would block the constraints. They are loadout history, so they
+-- are never removed here: SchemaMigrator counts them first and fails this migration if any exist.
+-- A re-run after a partial failure skips constraints that already exist (see SchemaMigrator).
+
+ALTER TABLE `historical_load` ADD CONSTRAINT `fk_historical_load_missione`
+  FOREIGN KEY (`mission_id`) REFERENCES `missione` (`ID`) ON DELETE CASCADE;
+
+ALTER TABLE `historical_launcher` ADD CONSTRAINT `fk_historical_launcher_missione`
+  FOREIGN KEY (`mission_id`) REFERENCES `missione` (`ID`) ON DELETE CASCADE;
+
+ALTER TABLE `missione_posizione_automatica` ADD CONSTRAINT `fk_missione_posizione_automatica_missione`
+  FOREIGN KEY (`ID_Missione`) REFERENCES `missione` (`ID`) ON DELETE CASCADE;
@@ -0,0 +1,12 @@
+-- Marks missions whose post-flight (PFMD) recorded data has been saved, so the PFMD screen lists
+-- the missions still awaiting data with an index range read instead of a NOT EXISTS per mission.
+-- Kept current by RecordedDataDAO and MissionDAO; the UPDATE below fills it for existing missions.
+-- A re-run after a partial failure skips the column and index if they already exist (see SchemaMigrator).
+
+ALTER TABLE `missione` ADD COLUMN `DatiRegistrati` tinyint(1) NOT NULL DEFAULT 0;
+
+UPDATE `missione` m SET m.`DatiRegistrati` = EXISTS (
+  SELECT 1 FROM `dati_registrati` dr
+  WHERE dr.`MatricolaVelivolo` = m.`MatricolaVelivolo` AND dr.`NumeroVolo` = m.`NumeroVolo`);
+
+ALTER TABLE `missione` ADD INDEX `ix_missione_aircraft_recorded_data` (`MatricolaVelivolo`, `DatiRegistrati`);
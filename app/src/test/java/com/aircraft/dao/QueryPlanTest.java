@@ -0,0 +1,122 @@
+package com.aircraft.dao;
+
+import com.aircraft.util.DBUtil;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestFactory;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs {@code EXPLAIN} on every filtered DAO query over the growing tables and fails
+ * for any that would read a whole table because no index matches its predicate.
+ * <p>
+ * Needs the local MySQL of {@code DBConfig} with the current schema (after {@code SchemaMigrator});
+ * it is skipped when that database cannot be reached. The SQL comes from the DAOs' own
+ * constants and builders, so the test explains exactly what the DAOs run.
+ * A full scan is only reported when the optimizer had no usable index: on small
+ * development tables MySQL may prefer a scan even when an index exists.
+ */
+@Tag("mysql")
+class QueryPlanTest {
+
+    // Small catalogs that are fine to scan; a scan of any other table is a regression
+    private static final Set<String> CATALOG_TABLES = Set.of(
+            "matricola_velivolo", "anagrafica_carichi", "anagrafica_lanciatore", "utenti");
+
+    private static final Date SAMPLE_DATE = Date.valueOf("2024-01-01");
+
+    private static Connection conn;
+
+    @BeforeAll
+    static void connect() {
+        try {
+            conn = DBUtil.getConnection();
+        } catch (SQLException e) {
+            Assumptions.abort("No local MySQL to explain the DAO queries against: " + e.getMessage());
+        }
+    }
+
+    @AfterAll
+    static void disconnect() {
+        DBUtil.closeResources(conn, null, null);
+        DBUtil.shutdown();
+    }
+
+    @TestFactory
+    Stream<DynamicTest> filteredQueriesUseAnIndex() {
+        return Stream.of(
+                query("MissionDAO.getByFlightNumber", MissionDAO.SELECT_BY_FLIGHT_NUMBER, "MM7000", 1),
+                query("MissionDAO.getMissionsByAircraft", MissionDAO.SELECT_BY_AIRCRAFT, "MM7000"),
+                query("MissionDAO.getMissionsWithoutRecordedData", MissionDAO.SELECT_WITHOUT_RECORDED_DATA, "MM7000"),
+                query("MissionDAO.getMissionsByDateRange", MissionDAO.SELECT_BY_DATE_RANGE, SAMPLE_DATE, SAMPLE_DATE),
+                query("MissionDAO.getMissionsByAircraftAndDateRange", MissionDAO.SELECT_BY_AIRCRAFT_AND_DATE_RANGE,
+                        "MM7000", SAMPLE_DATE, SAMPLE_DATE),
+                query("MissionDAO.getPage", MissionDAO.pageSql(MissionDAO.PAGE_FILTER_NONE, true),
+                        SAMPLE_DATE, SAMPLE_DATE, 1000, 51),
+                query("MissionDAO.getPageByAircraft", MissionDAO.pageSql(MissionDAO.PAGE_FILTER_AIRCRAFT, true),
+                        "MM7000", SAMPLE_DATE, SAMPLE_DATE, 1000, 51),
+                query("MissionDAO.refreshRecordedDataState", MissionDAO.recordedDataStateSql(1), "MM7000", 1),
+                query("RecordedDataDAO.getByFlightNumber", RecordedDataDAO.SELECT_BY_FLIGHT_NUMBER, "MM7000", 1),
+                query("LoadoutDAO.getByMissionIds", LoadoutDAO.selectByMissionIdsSql(2), 1, 2, 1, 2),
+                query("LauncherDAO.getLauncherLifeStatus", LauncherDAO.SELECT_LIFE_STATUS, "SN0001"),
+                query("LauncherDAO.getLauncherLifeStatusesByRemainingLife",
+                        LauncherDAO.SELECT_LIFE_STATUSES_BY_REMAINING_LIFE, 20),
+                query("LauncherDAO.refreshLifeStatusForFlights (delete)",
+                        LauncherDAO.refreshDeleteSql(LauncherDAO.flightsSerialFilter(2)), "MM7000", 1, 2),
+                query("LauncherDAO.refreshLifeStatusForFlights (insert)",
+                        LauncherDAO.refreshInsertSql(LauncherDAO.flightsSerialFilter(2)), "MM7000", 1, 2)
+        );
+    }
+
+    private static DynamicTest query(String name, String sql, Object... parameters) {
+        return DynamicTest.dynamicTest(name, () -> {
+            List<String> scans = explain(sql, parameters);
+            assertTrue(scans.isEmpty(), name + " scans without a usable index: " + scans + "\n" + sql);
+        });
+    }
+
+    /**
+     * Runs EXPLAIN on a query.
+     *
+     * @return The growing tables the query reads in full without a usable index
+     */
+    private static List<String> explain(String sql, Object... parameters) throws SQLException {
+        List<String> scans = new ArrayList<>();
+
+        try (PreparedStatement stmt = conn.prepareStatement("EXPLAIN " + sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                stmt.setObject(i + 1, parameters[i]);
+            }
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    String table = rs.getString("table");
+                    String type = rs.getString("type");
+                    String possibleKeys = rs.getString("possible_keys");
+
+                    // Derived tables (<derivedN>) are materialized subqueries whose own steps are listed too
+                    if (table != null && !table.startsWith("<") && !CATALOG_TABLES.contains(table.toLowerCase())
+                            && "ALL".equals(type) && possibleKeys == null) {
+                        scans.add(table);
+                    }
+                }
+            }
+        }
+
+        return scans;
+    }
+}
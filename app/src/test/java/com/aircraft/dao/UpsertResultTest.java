@@ -0,0 +1,41 @@
+package com.aircraft.dao;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UpsertResultTest {
+
+    @Test
+    void skippedRowCountsZero() {
+        assertEquals(UpsertResult.EXISTING, UpsertResult.fromUpdateCount(0));
+    }
+
+    @Test
+    void insertedRowCountsOne() {
+        assertEquals(UpsertResult.INSERTED, UpsertResult.fromUpdateCount(1));
+    }
+
+    @Test
+    void updatedRowCountsTwo() {
+        assertEquals(UpsertResult.UPDATED, UpsertResult.fromUpdateCount(2));
+    }
+
+    @Test
+    void onlyFailureIsUnsuccessful() {
+        assertTrue(UpsertResult.INSERTED.isSuccess());
+        assertTrue(UpsertResult.UPDATED.isSuccess());
+        assertTrue(UpsertResult.EXISTING.isSuccess());
+        assertFalse(UpsertResult.FAILED.isSuccess());
+    }
+
+    @Test
+    void recognizesDuplicateKeyErrors() {
+        assertTrue(UpsertResult.isDuplicateKey(new SQLException("Duplicate entry", "23000", 1062)));
+        assertFalse(UpsertResult.isDuplicateKey(new SQLException("Data too long", "22001", 1406)));
+    }
+}
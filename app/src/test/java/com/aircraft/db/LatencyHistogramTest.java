@@ -0,0 +1,80 @@
+package com.aircraft.db;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    // Buckets are an eighth of a power of two wide and report their upper bound
+    private static void assertWithinBucket(double expectedMillis, double actualMillis) {
+        assertTrue(actualMillis >= expectedMillis && actualMillis <= expectedMillis * 1.125 + 0.001,
+                "expected about " + expectedMillis + " ms, got " + actualMillis);
+    }
+
+    @Test
+    void emptyHistogramReportsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals(0.0, histogram.percentileMillis(50));
+        assertEquals(0.0, histogram.percentileMillis(99));
+    }
+
+    @Test
+    void singleObservationIsEveryPercentile() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(3 * NANOS_PER_MILLI);
+
+        assertWithinBucket(3.0, histogram.percentileMillis(1));
+        assertWithinBucket(3.0, histogram.percentileMillis(50));
+        assertWithinBucket(3.0, histogram.percentileMillis(100));
+    }
+
+    @Test
+    void smallLatenciesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(5_000);
+
+        assertEquals(0.005, histogram.percentileMillis(50), 1e-9);
+    }
+
+    @Test
+    void percentilesOfUniformLatencies() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int millis = 1; millis <= 1000; millis++) {
+            histogram.record(millis * NANOS_PER_MILLI);
+        }
+
+        assertWithinBucket(500.0, histogram.percentileMillis(50));
+        assertWithinBucket(950.0, histogram.percentileMillis(95));
+        assertWithinBucket(990.0, histogram.percentileMillis(99));
+        assertWithinBucket(1000.0, histogram.percentileMillis(100));
+    }
+
+    @Test
+    void percentileFollowsTheTail() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 98; i++) {
+            histogram.record(NANOS_PER_MILLI);
+        }
+        histogram.record(200 * NANOS_PER_MILLI);
+        histogram.record(200 * NANOS_PER_MILLI);
+
+        assertWithinBucket(1.0, histogram.percentileMillis(50));
+        assertWithinBucket(1.0, histogram.percentileMillis(98));
+        assertWithinBucket(200.0, histogram.percentileMillis(99));
+    }
+
+    @Test
+    void outOfRangeLatenciesAreClamped() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-1);
+        histogram.record(Long.MAX_VALUE);
+
+        assertEquals(0.0, histogram.percentileMillis(50));
+        assertTrue(histogram.percentileMillis(100) > 0);
+    }
+}
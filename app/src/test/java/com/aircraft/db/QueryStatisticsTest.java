@@ -0,0 +1,55 @@
+package com.aircraft.db;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class QueryStatisticsTest {
+
+    private static Object[] parameters(Object... values) {
+        Object[] parameters = new Object[values.length + 1];
+        System.arraycopy(values, 0, parameters, 1, values.length);
+        return parameters;
+    }
+
+    @Test
+    void masksTextValuesByDefault() {
+        String formatted = QueryStatistics.formatParameters(
+                parameters("MM7000", 12, Date.valueOf("2024-03-15"), InstrumentedConnection.NULL),
+                QueryStatistics.ParameterMode.MASKED);
+
+        assertEquals("[1=<String>, 2=12, 3=2024-03-15, 4=NULL]", formatted);
+    }
+
+    @Test
+    void keepsEveryValueWhenCaptureIsEnabled() {
+        String formatted = QueryStatistics.formatParameters(parameters("MM7000", 12),
+                QueryStatistics.ParameterMode.FULL);
+
+        assertEquals("[1=MM7000, 2=12]", formatted);
+    }
+
+    @Test
+    void redactsStatementsOnTheUserTable() {
+        String sql = "SELECT ID, Username FROM utenti WHERE Username = ? AND Password = ?";
+
+        assertEquals(QueryStatistics.ParameterMode.REDACTED, QueryStatistics.parameterMode(sql));
+        assertEquals(QueryStatistics.ParameterMode.REDACTED, QueryStatistics.parameterMode(sql.toUpperCase()));
+        assertEquals("[redacted]", QueryStatistics.formatParameters(parameters("admin", "secret"),
+                QueryStatistics.ParameterMode.REDACTED));
+    }
+
+    @Test
+    void masksOtherStatementsUnlessCaptureIsEnabled() {
+        assertEquals(QueryStatistics.ParameterMode.MASKED,
+                QueryStatistics.parameterMode("SELECT * FROM missione WHERE MatricolaVelivolo = ?"));
+    }
+
+    @Test
+    void templateReplacesLiterals() {
+        assertEquals("SELECT * FROM utenti WHERE Username = ? AND Password = ?",
+                QueryStatistics.templateOf("SELECT *  FROM utenti\n WHERE Username = 'admin' AND Password = 'x'"));
+    }
+}
@@ -0,0 +1,98 @@
+package com.aircraft.db;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SchemaMigratorTest {
+
+    private static final List<String> SCRIPTS = List.of(
+            "V1__historical_loadout_tables.sql",
+            "V2__hot_lookup_indexes.sql",
+            "V3__launcher_life_status_table.sql",
+            "V4__launcher_life_status_remaining_life_index.sql",
+            "V5__mission_cascade_foreign_keys.sql",
+            "V6__mission_recorded_data_state.sql");
+
+    @Test
+    void splitsStatementsAtLineEndingSemicolons() {
+        List<String> statements = SchemaMigrator.parseStatements(
+                "CREATE TABLE a (id int);\nCREATE TABLE b (id int);\n");
+
+        assertEquals(List.of("CREATE TABLE a (id int)", "CREATE TABLE b (id int)"), statements);
+    }
+
+    @Test
+    void keepsMultiLineStatementsTogether() {
+        List<String> statements = SchemaMigrator.parseStatements(
+                "CREATE TABLE a (\n  id int,\n  name varchar(10)\n);\n");
+
+        assertEquals(List.of("CREATE TABLE a (\n  id int,\n  name varchar(10)\n)"), statements);
+    }
+
+    @Test
+    void skipsCommentsAndBlankLines() {
+        List<String> statements = SchemaMigrator.parseStatements(
+                "-- header\n\n  -- indented comment\nDROP VIEW v;\n\n-- trailer\n");
+
+        assertEquals(List.of("DROP VIEW v"), statements);
+    }
+
+    @Test
+    void doesNotSplitAtSemicolonsInsideALine() {
+        List<String> statements = SchemaMigrator.parseStatements(
+                "INSERT INTO t (s) VALUES ('a;b');\n");
+
+        assertEquals(List.of("INSERT INTO t (s) VALUES ('a;b')"), statements);
+    }
+
+    @Test
+    void acceptsWindowsLineEndings() {
+        List<String> statements = SchemaMigrator.parseStatements("DROP VIEW a;\r\nDROP VIEW b;\r\n");
+
+        assertEquals(List.of("DROP VIEW a", "DROP VIEW b"), statements);
+    }
+
+    @Test
+    void keepsFinalStatementWithoutSemicolon() {
+        List<String> statements = SchemaMigrator.parseStatements("DROP VIEW a;\nDROP VIEW b");
+
+        assertEquals(List.of("DROP VIEW a", "DROP VIEW b"), statements);
+    }
+
+    @Test
+    void emptyScriptHasNoStatements() {
+        assertTrue(SchemaMigrator.parseStatements("").isEmpty());
+        assertTrue(SchemaMigrator.parseStatements("-- only a comment\n\n").isEmpty());
+    }
+
+    @Test
+    void everyMigrationScriptParses() throws IOException {
+        assertEquals(SchemaMigrator.getTargetVersion(), SCRIPTS.size(), "a migration script is missing from this test");
+
+        for (String script : SCRIPTS) {
+            List<String> statements = SchemaMigrator.parseStatements(readScript(script));
+
+            assertFalse(statements.isEmpty(), script + " has no statements");
+            for (String sql : statements) {
+                assertFalse(sql.endsWith(";"), script + " statement kept its semicolon: " + sql);
+                assertFalse(sql.startsWith("--"), script + " statement starts with a comment: " + sql);
+            }
+        }
+    }
+
+    private static String readScript(String script) throws IOException {
+        try (InputStream in = SchemaMigratorTest.class.getResourceAsStream("/db/migration/" + script)) {
+            assertNotNull(in, script + " is not on the classpath");
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
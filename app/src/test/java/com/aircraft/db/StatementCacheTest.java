@@ -0,0 +1,123 @@
+package com.aircraft.db;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StatementCacheTest {
+
+    /**
+     * Creates a statement that only tracks whether it was closed.
+     */
+    private static PreparedStatement statement() {
+        AtomicBoolean closed = new AtomicBoolean();
+        return (PreparedStatement) Proxy.newProxyInstance(StatementCacheTest.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "close":
+                            closed.set(true);
+                            return null;
+                        case "isClosed":
+                            return closed.get();
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    @Test
+    void missReturnsNull() throws SQLException {
+        StatementCache cache = new StatementCache(4);
+
+        assertNull(cache.checkout("0:SELECT 1"));
+    }
+
+    @Test
+    void checkedOutStatementIsNotShared() throws SQLException {
+        StatementCache cache = new StatementCache(4);
+        PreparedStatement statement = statement();
+
+        assertEquals(0, cache.checkin("0:SELECT 1", statement));
+        assertSame(statement, cache.checkout("0:SELECT 1"));
+        assertNull(cache.checkout("0:SELECT 1"));
+        assertFalse(statement.isClosed());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedWhenFull() throws SQLException {
+        StatementCache cache = new StatementCache(2);
+        PreparedStatement a = statement();
+        PreparedStatement b = statement();
+        PreparedStatement c = statement();
+
+        cache.checkin("a", a);
+        cache.checkin("b", b);
+        // Using "a" again makes "b" the least recently used
+        cache.checkin("a", cache.checkout("a"));
+
+        assertEquals(1, cache.checkin("c", c));
+        assertTrue(b.isClosed());
+        assertFalse(a.isClosed());
+        assertFalse(c.isClosed());
+        assertNull(cache.checkout("b"));
+        assertSame(a, cache.checkout("a"));
+        assertSame(c, cache.checkout("c"));
+    }
+
+    @Test
+    void closesDuplicateOfCachedStatement() throws SQLException {
+        StatementCache cache = new StatementCache(4);
+        PreparedStatement cached = statement();
+        PreparedStatement duplicate = statement();
+
+        cache.checkin("0:SELECT 1", cached);
+
+        assertEquals(1, cache.checkin("0:SELECT 1", duplicate));
+        assertTrue(duplicate.isClosed());
+        assertSame(cached, cache.checkout("0:SELECT 1"));
+    }
+
+    @Test
+    void zeroCapacityClosesEveryStatement() throws SQLException {
+        StatementCache cache = new StatementCache(0);
+        PreparedStatement statement = statement();
+
+        assertEquals(1, cache.checkin("0:SELECT 1", statement));
+        assertTrue(statement.isClosed());
+        assertNull(cache.checkout("0:SELECT 1"));
+    }
+
+    @Test
+    void dropsStatementClosedWhileCached() throws SQLException {
+        StatementCache cache = new StatementCache(4);
+        PreparedStatement statement = statement();
+
+        cache.checkin("0:SELECT 1", statement);
+        statement.close();
+
+        assertNull(cache.checkout("0:SELECT 1"));
+    }
+
+    @Test
+    void keyDependsOnGeneratedKeysFlag() {
+        assertNotEquals(StatementCache.key("INSERT INTO t VALUES (?)", Statement.NO_GENERATED_KEYS),
+                StatementCache.key("INSERT INTO t VALUES (?)", Statement.RETURN_GENERATED_KEYS));
+        assertEquals(StatementCache.key("SELECT 1", Statement.NO_GENERATED_KEYS),
+                StatementCache.key("SELECT 1", Statement.NO_GENERATED_KEYS));
+    }
+}
@@ -0,0 +1,78 @@
+package com.aircraft.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Time;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MissionPageTest {
+
+    private static Mission mission(int id, String date) {
+        return new Mission(id, "MM7000", Date.valueOf(date), 1, Time.valueOf("08:00:00"), Time.valueOf("09:30:00"));
+    }
+
+    private static String encode(String key) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void cursorRoundTripsDateAndId() {
+        String cursor = MissionPage.cursorAfter(mission(4217, "2024-03-15"));
+
+        assertEquals(Date.valueOf("2024-03-15"), MissionPage.cursorDate(cursor));
+        assertEquals(4217, MissionPage.cursorId(cursor));
+    }
+
+    @Test
+    void cursorIsUrlSafe() {
+        String cursor = MissionPage.cursorAfter(mission(Integer.MAX_VALUE, "1999-12-31"));
+
+        assertTrue(cursor.matches("[A-Za-z0-9_-]+"), cursor);
+    }
+
+    @Test
+    void hasNextFollowsCursor() {
+        assertTrue(new MissionPage(List.of(mission(1, "2024-01-01")), "abc").hasNext());
+        assertFalse(new MissionPage(List.of(), null).hasNext());
+    }
+
+    @Test
+    void rejectsCursorThatIsNotBase64() {
+        assertThrows(IllegalArgumentException.class, () -> MissionPage.cursorDate("not a cursor!"));
+        assertThrows(IllegalArgumentException.class, () -> MissionPage.cursorId("not a cursor!"));
+    }
+
+    @Test
+    void rejectsCursorWithoutSeparator() {
+        String cursor = encode("2024-03-15");
+
+        assertThrows(IllegalArgumentException.class, () -> MissionPage.cursorDate(cursor));
+        assertThrows(IllegalArgumentException.class, () -> MissionPage.cursorId(cursor));
+    }
+
+    @Test
+    void rejectsCursorWithTooManyParts() {
+        String cursor = encode("2024-03-15|12|3");
+
+        assertThrows(IllegalArgumentException.class, () -> MissionPage.cursorId(cursor));
+    }
+
+    @Test
+    void rejectsCursorWithBadDate() {
+        assertThrows(IllegalArgumentException.class, () -> MissionPage.cursorDate(encode("15/03/2024|12")));
+    }
+
+    @Test
+    void rejectsCursorWithBadId() {
+        assertThrows(IllegalArgumentException.class, () -> MissionPage.cursorId(encode("2024-03-15|twelve")));
+        assertThrows(IllegalArgumentException.class, () -> MissionPage.cursorId(encode("2024-03-15|")));
+    }
+}
@@ -0,0 +1,477 @@
+package com.aircraft.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * Generates a {@code <Model>RowMapper} class for every model annotated with
+ * {@code com.aircraft.model.mapping.Table}.
+ * <p>
+ * A generated mapper has:
+ * <ul>
+ *     <li>{@code COLUMNS}, the select list, and for writable tables {@code INSERT_COLUMNS},
+ *     {@code INSERT_PARAMETERS}, {@code UPDATE_ASSIGNMENTS} and {@code KEY_CONDITION},
+ *     all compile-time constants so DAO SQL built from them stays constant too;</li>
+ *     <li>{@code map(ResultSet)}, which reads the columns by index straight into the setters;</li>
+ *     <li>{@code bindInsert} and {@code bindUpdate}, which set the statement parameters from
+ *     the getters.</li>
+ * </ul>
+ * The annotations are matched by name, so this processor has no dependency on the application.
+ */
+@SupportedAnnotationTypes({RowMapperProcessor.TABLE_ANNOTATION, RowMapperProcessor.COLUMN_ANNOTATION})
+public class RowMapperProcessor extends AbstractProcessor {
+
+    static final String TABLE_ANNOTATION = "com.aircraft.model.mapping.Table";
+    static final String COLUMN_ANNOTATION = "com.aircraft.model.mapping.Column";
+
+    private static final String SUFFIX = "RowMapper";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        // @Column is claimed too, but only read through the @Table class that declares it
+        for (TypeElement annotation : annotations) {
+            if (!annotation.getQualifiedName().contentEquals(TABLE_ANNOTATION)) {
+                continue;
+            }
+
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() != ElementKind.CLASS) {
+                    error(element, "@Table can only be used on a class");
+                    continue;
+                }
+
+                TypeElement model = (TypeElement) element;
+                Mapping mapping = readMapping(model);
+                if (mapping != null) {
+                    write(mapping);
+                }
+            }
+        }
+        return true;
+    }
+
+    private Mapping readMapping(TypeElement model) {
+        AnnotationMirror table = findAnnotation(model, TABLE_ANNOTATION);
+        Mapping mapping = new Mapping(model,
+                (String) annotationValue(table, "value", null),
+                (Boolean) annotationValue(table, "readOnly", Boolean.FALSE));
+
+        boolean valid = hasPublicNoArgConstructor(model);
+        if (!valid) {
+            error(model, "A @Table class needs a public no-argument constructor");
+        }
+
+        for (VariableElement field : ElementFilter.fieldsIn(model.getEnclosedElements())) {
+            AnnotationMirror column = findAnnotation(field, COLUMN_ANNOTATION);
+            if (column == null) {
+                continue;
+            }
+
+            JdbcType type = JdbcType.of(field.asType());
+            if (type == null) {
+                error(field, "Unsupported column type " + field.asType());
+                valid = false;
+                continue;
+            }
+
+            String property = field.getSimpleName().toString();
+            String capitalized = Character.toUpperCase(property.charAt(0)) + property.substring(1);
+            String getter = (type == JdbcType.BOOLEAN ? "is" : "get") + capitalized;
+            String setter = "set" + capitalized;
+            if (!hasAccessor(model, getter, 0) || !hasAccessor(model, setter, 1)) {
+                error(field, "@Column field needs public " + getter + "() and " + setter + "(...) methods");
+                valid = false;
+                continue;
+            }
+
+            mapping.columns.add(new ColumnMapping(
+                    (String) annotationValue(column, "value", null),
+                    (Boolean) annotationValue(column, "key", Boolean.FALSE),
+                    (Boolean) annotationValue(column, "generated", Boolean.FALSE),
+                    type, getter, setter));
+        }
+
+        if (mapping.columns.isEmpty()) {
+            error(model, "A @Table class needs at least one @Column field");
+            valid = false;
+        }
+        return valid ? mapping : null;
+    }
+
+    private void write(Mapping mapping) {
+        String packageName = ((PackageElement) mapping.model.getEnclosingElement()).getQualifiedName().toString();
+        String modelName = mapping.model.getSimpleName().toString();
+        String mapperName = modelName + SUFFIX;
+        String variable = Character.toLowerCase(modelName.charAt(0)) + modelName.substring(1);
+
+        List<ColumnMapping> insertColumns = new ArrayList<>();
+        List<ColumnMapping> keyColumns = new ArrayList<>();
+        List<ColumnMapping> updateColumns = new ArrayList<>();
+        for (ColumnMapping column : mapping.columns) {
+            if (!column.generated) {
+                insertColumns.add(column);
+            }
+            if (column.key) {
+                keyColumns.add(column);
+            } else {
+                updateColumns.add(column);
+            }
+        }
+
+        try (PrintWriter out = new PrintWriter(processingEnv.getFiler()
+                .createSourceFile(packageName + "." + mapperName, mapping.model).openWriter())) {
+            out.println("package " + packageName + ";");
+            out.println();
+            out.println("import java.sql.PreparedStatement;");
+            out.println("import java.sql.ResultSet;");
+            out.println("import java.sql.SQLException;");
+            out.println("import java.sql.Types;");
+            out.println();
+            out.println("/**");
+            out.println(" * Row mapper for {@link " + modelName + "} and '" + mapping.table + "'"
+                    + (mapping.readOnly ? ", which is only read through this model." : "."));
+            out.println(" * Generated by " + getClass().getName() + " from the mapping annotations; do not edit.");
+            out.println(" */");
+            out.println("public final class " + mapperName + " {");
+            out.println();
+            out.println("    /** The mapped table. */");
+            out.println("    public static final String TABLE = " + literal(mapping.table) + ";");
+            out.println();
+            out.println("    /** Every mapped column, in the order {@link #map(ResultSet, int)} reads them. */");
+            out.println("    public static final String COLUMNS = " + literal(join(mapping.columns, "")) + ";");
+            out.println();
+            out.println("    /** The number of columns in {@link #COLUMNS}. */");
+            out.println("    public static final int COLUMN_COUNT = " + mapping.columns.size() + ";");
+
+            boolean writable = !mapping.readOnly && !insertColumns.isEmpty();
+            boolean updatable = writable && !keyColumns.isEmpty() && !updateColumns.isEmpty();
+            if (writable) {
+                out.println();
+                out.println("    /** The columns bound by {@link #bindInsert}, in parameter order. */");
+                out.println("    public static final String INSERT_COLUMNS = " + literal(join(insertColumns, "")) + ";");
+                out.println();
+                out.println("    /** One placeholder per column of {@link #INSERT_COLUMNS}. */");
+                out.println("    public static final String INSERT_PARAMETERS = " + literal(placeholders(insertColumns.size())) + ";");
+            }
+            if (updatable) {
+                out.println();
+                out.println("    /** The SET list bound by {@link #bindUpdate}, before the key. */");
+                out.println("    public static final String UPDATE_ASSIGNMENTS = " + literal(join(updateColumns, " = ?")) + ";");
+                out.println();
+                out.println("    /** The ON DUPLICATE KEY UPDATE list that copies every non-key column from the inserted row, aliased {@code AS new}. */");
+                out.println("    public static final String UPSERT_ASSIGNMENTS = " + literal(joinFromInserted(updateColumns)) + ";");
+            }
+            if (!keyColumns.isEmpty()) {
+                out.println();
+                out.println("    /** The WHERE condition that selects one row by its primary key. */");
+                out.println("    public static final String KEY_CONDITION = " + literal(joinCondition(keyColumns)) + ";");
+            }
+
+            out.println();
+            out.println("    private " + mapperName + "() {");
+            out.println("        // Static utility class");
+            out.println("    }");
+
+            out.println();
+            out.println("    /**");
+            out.println("     * Creates " + withArticle(modelName) + " from the current row of a result set selected with {@link #COLUMNS}.");
+            out.println("     *");
+            out.println("     * @param rs The result set");
+            out.println("     * @return The " + modelName + " object");
+            out.println("     * @throws SQLException If a column cannot be read");
+            out.println("     */");
+            out.println("    public static " + modelName + " map(ResultSet rs) throws SQLException {");
+            out.println("        return map(rs, 1);");
+            out.println("    }");
+
+            out.println();
+            out.println("    /**");
+            out.println("     * Creates " + withArticle(modelName) + " from {@link #COLUMN_COUNT} consecutive columns of the current row,");
+            out.println("     * for queries that select {@link #COLUMNS} after other columns.");
+            out.println("     *");
+            out.println("     * @param rs The result set");
+            out.println("     * @param firstColumn Index of the first mapped column");
+            out.println("     * @return The " + modelName + " object");
+            out.println("     * @throws SQLException If a column cannot be read");
+            out.println("     */");
+            out.println("    public static " + modelName + " map(ResultSet rs, int firstColumn) throws SQLException {");
+            out.println("        " + modelName + " " + variable + " = new " + modelName + "();");
+            for (int i = 0; i < mapping.columns.size(); i++) {
+                ColumnMapping column = mapping.columns.get(i);
+                String index = i == 0 ? "firstColumn" : "firstColumn + " + i;
+                column.type.writeRead(out, variable, column.setter, index);
+            }
+            out.println("        return " + variable + ";");
+            out.println("    }");
+
+            if (writable) {
+                out.println();
+                out.println("    /**");
+                out.println("     * Binds the {@link #INSERT_COLUMNS} of " + withArticle(modelName) + " starting at the given parameter.");
+                out.println("     *");
+                out.println("     * @param stmt The statement");
+                out.println("     * @param " + variable + " The " + modelName + " to insert");
+                out.println("     * @param firstParameter Index of the first parameter to set");
+                out.println("     * @return The index of the next unbound parameter");
+                out.println("     * @throws SQLException If a parameter cannot be set");
+                out.println("     */");
+                out.println("    public static int bindInsert(PreparedStatement stmt, " + modelName + " " + variable
+                        + ", int firstParameter) throws SQLException {");
+                writeBinds(out, variable, insertColumns);
+                out.println("    }");
+            }
+
+            if (updatable) {
+                out.println();
+                out.println("    /**");
+                out.println("     * Binds the {@link #UPDATE_ASSIGNMENTS} and then the {@link #KEY_CONDITION} of "
+                        + withArticle(modelName) + ",");
+                out.println("     * starting at the given parameter.");
+                out.println("     *");
+                out.println("     * @param stmt The statement");
+                out.println("     * @param " + variable + " The " + modelName + " to update");
+                out.println("     * @param firstParameter Index of the first parameter to set");
+                out.println("     * @return The index of the next unbound parameter");
+                out.println("     * @throws SQLException If a parameter cannot be set");
+                out.println("     */");
+                out.println("    public static int bindUpdate(PreparedStatement stmt, " + modelName + " " + variable
+                        + ", int firstParameter) throws SQLException {");
+                List<ColumnMapping> updateOrder = new ArrayList<>(updateColumns);
+                updateOrder.addAll(keyColumns);
+                writeBinds(out, variable, updateOrder);
+                out.println("    }");
+            }
+
+            out.println("}");
+        } catch (IOException e) {
+            error(mapping.model, "Could not write " + mapperName + ": " + e.getMessage());
+        }
+    }
+
+    private static void writeBinds(PrintWriter out, String variable, List<ColumnMapping> columns) {
+        out.println("        int parameter = firstParameter;");
+        for (ColumnMapping column : columns) {
+            column.type.writeBind(out, variable, column.getter);
+        }
+        out.println("        return parameter;");
+    }
+
+    private static String join(List<ColumnMapping> columns, String suffix) {
+        StringJoiner joiner = new StringJoiner(", ");
+        for (ColumnMapping column : columns) {
+            joiner.add(column.name + suffix);
+        }
+        return joiner.toString();
+    }
+
+    private static String joinFromInserted(List<ColumnMapping> columns) {
+        StringJoiner joiner = new StringJoiner(", ");
+        for (ColumnMapping column : columns) {
+            joiner.add(column.name + " = new." + column.name);
+        }
+        return joiner.toString();
+    }
+
+    private static String joinCondition(List<ColumnMapping> columns) {
+        StringJoiner joiner = new StringJoiner(" AND ");
+        for (ColumnMapping column : columns) {
+            joiner.add(column.name + " = ?");
+        }
+        return joiner.toString();
+    }
+
+    private static String placeholders(int count) {
+        StringJoiner joiner = new StringJoiner(", ");
+        for (int i = 0; i < count; i++) {
+            joiner.add("?");
+        }
+        return joiner.toString();
+    }
+
+    private static String withArticle(String name) {
+        return ("AEIOU".indexOf(name.charAt(0)) >= 0 ? "an " : "a ") + name;
+    }
+
+    private static String literal(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    private static boolean hasPublicNoArgConstructor(TypeElement model) {
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(model.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasAccessor(TypeElement model, String name, int parameterCount) {
+        for (ExecutableElement method : ElementFilter.methodsIn(model.getEnclosedElements())) {
+            if (method.getSimpleName().contentEquals(name)
+                    && method.getParameters().size() == parameterCount
+                    && method.getModifiers().contains(Modifier.PUBLIC)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static AnnotationMirror findAnnotation(Element element, String annotationName) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement type = (TypeElement) mirror.getAnnotationType().asElement();
+            if (type.getQualifiedName().contentEquals(annotationName)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private static Object annotationValue(AnnotationMirror mirror, String name, Object defaultValue) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : mirror.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue().getValue();
+            }
+        }
+        return defaultValue;
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    /**
+     * A model class and its mapped columns.
+     */
+    private static final class Mapping {
+        final TypeElement model;
+        final String table;
+        final boolean readOnly;
+        final List<ColumnMapping> columns = new ArrayList<>();
+
+        Mapping(TypeElement model, String table, boolean readOnly) {
+            this.model = model;
+            this.table = table;
+            this.readOnly = readOnly;
+        }
+    }
+
+    /**
+     * One mapped field.
+     */
+    private static final class ColumnMapping {
+        final String name;
+        final boolean key;
+        final boolean generated;
+        final JdbcType type;
+        final String getter;
+        final String setter;
+
+        ColumnMapping(String name, boolean key, boolean generated, JdbcType type, String getter, String setter) {
+            this.name = name;
+            this.key = key;
+            this.generated = generated;
+            this.type = type;
+            this.getter = getter;
+            this.setter = setter;
+        }
+    }
+
+    /**
+     * The supported field types and the JDBC calls that read and bind them.
+     */
+    private enum JdbcType {
+        INT("int", "Int", null, false),
+        LONG("long", "Long", null, false),
+        DOUBLE("double", "Double", null, false),
+        BOOLEAN("boolean", "Boolean", null, false),
+        INTEGER_OBJECT("java.lang.Integer", "Int", "INTEGER", true),
+        LONG_OBJECT("java.lang.Long", "Long", "BIGINT", true),
+        DOUBLE_OBJECT("java.lang.Double", "Double", "DOUBLE", true),
+        BOOLEAN_OBJECT("java.lang.Boolean", "Boolean", "BOOLEAN", true),
+        STRING("java.lang.String", "String", "VARCHAR", false),
+        BIG_DECIMAL("java.math.BigDecimal", "BigDecimal", "DECIMAL", false),
+        DATE("java.sql.Date", "Date", "DATE", false),
+        TIME("java.sql.Time", "Time", "TIME", false),
+        TIMESTAMP("java.sql.Timestamp", "Timestamp", "TIMESTAMP", false);
+
+        private final String javaType;
+        private final String jdbcSuffix;
+        private final String sqlType;
+        private final boolean boxed;
+
+        JdbcType(String javaType, String jdbcSuffix, String sqlType, boolean boxed) {
+            this.javaType = javaType;
+            this.jdbcSuffix = jdbcSuffix;
+            this.sqlType = sqlType;
+            this.boxed = boxed;
+        }
+
+        static JdbcType of(TypeMirror type) {
+            String name = type.getKind() == TypeKind.DECLARED || type.getKind().isPrimitive()
+                    ? type.toString() : null;
+            for (JdbcType candidate : values()) {
+                if (candidate.javaType.equals(name)) {
+                    return candidate;
+                }
+            }
+            return null;
+        }
+
+        void writeRead(PrintWriter out, String variable, String setter, String index) {
+            String read = "rs.get" + jdbcSuffix + "(" + index + ")";
+            if (boxed) {
+                // Primitive getters return 0 for NULL, so keep NULL by checking wasNull()
+                String local = setter.substring(3, 4).toLowerCase() + setter.substring(4);
+                out.println("        " + primitiveName() + " " + local + " = " + read + ";");
+                out.println("        " + variable + "." + setter + "(rs.wasNull() ? null : " + local + ");");
+            } else {
+                out.println("        " + variable + "." + setter + "(" + read + ");");
+            }
+        }
+
+        void writeBind(PrintWriter out, String variable, String getter) {
+            String value = variable + "." + getter + "()";
+            if (sqlType == null) {
+                out.println("        stmt.set" + jdbcSuffix + "(parameter++, " + value + ");");
+                return;
+            }
+            out.println("        if (" + value + " == null) {");
+            out.println("            stmt.setNull(parameter++, Types." + sqlType + ");");
+            out.println("        } else {");
+            out.println("            stmt.set" + jdbcSuffix + "(parameter++, " + value + ");");
+            out.println("        }");
+        }
+
+        private String primitiveName() {
+            return jdbcSuffix.toLowerCase();
+        }
+    }
+}